@@ -2,9 +2,20 @@ import com.vanniktech.maven.publish.JavaLibrary
 import com.vanniktech.maven.publish.JavadocJar
 
 plugins {
+    `java-test-fixtures`
     alias(libs.plugins.publisher)
 }
 
+dependencies {
+    testFixturesCompileOnly(rootProject.libs.annotations)
+    testFixturesApi(rootProject.libs.paper)
+}
+
+// The test kit is only for our own tests, keep it out of the published artifact
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations.testFixturesApiElements.get()) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations.testFixturesRuntimeElements.get()) { skip() }
+
 mavenPublishing {
     coordinates(
         groupId = "io.github.milkdrinkers",
@@ -0,0 +1,138 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A {@link BoundedCache} is a small least-recently-used cache
+ * that holds at most a fixed amount of entries.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @implNote All operations are synchronized on the cache, so a single instance may be shared between threads.
+ */
+public final class BoundedCache<K, V> {
+    private final int maximumSize;
+    private final LinkedHashMap<K, V> entries;
+
+    /**
+     * Creates a new cache holding at most {@code maximumSize} entries.
+     *
+     * @param maximumSize the maximum amount of entries, a value of {@code 0} disables caching
+     * @throws IllegalArgumentException if the maximum size is negative
+     */
+    public BoundedCache(final int maximumSize) {
+        if (maximumSize < 0)
+            throw new IllegalArgumentException("Cache size cannot be negative");
+
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > BoundedCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the maximum amount of entries held by this cache.
+     *
+     * @return maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the cached value for the key.
+     *
+     * @param key the key
+     * @return the cached value or null
+     */
+    public synchronized @Nullable V get(final @NotNull K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Gets the cached value for the key, computing and caching it if absent.
+     *
+     * @param key      the key
+     * @param function the function computing the value, a null result is not cached
+     * @return the cached or computed value
+     */
+    public @Nullable V get(final @NotNull K key, final @NotNull Function<? super K, ? extends V> function) {
+        final @Nullable V cached = get(key);
+        if (cached != null)
+            return cached;
+
+        // Computed outside the lock, so slow computations do not block other readers
+        final @Nullable V value = function.apply(key);
+        if (value != null)
+            put(key, value);
+
+        return value;
+    }
+
+    /**
+     * Caches the value for the key, evicting the least recently used entry if the cache is full.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public synchronized void put(final @NotNull K key, final @NotNull V value) {
+        if (maximumSize == 0)
+            return;
+
+        entries.put(key, value);
+    }
+
+    /**
+     * Removes the cached value for the key.
+     *
+     * @param key the key
+     */
+    public synchronized void invalidate(final @NotNull K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the amount of cached entries.
+     *
+     * @return size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
\ No newline at end of file
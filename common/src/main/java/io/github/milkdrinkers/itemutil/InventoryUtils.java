@@ -26,6 +26,7 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -35,6 +36,9 @@ import java.util.stream.IntStream;
  * The {@link InventoryUtils} class provides utilities for
  * manipulating and checking inventories with both vanilla
  * and custom items from supported plugins.
+ * <p>
+ * Methods taking an item id only match items whose {@link ItemUtils#parse(ItemStack) parsed item id}
+ * is equal to it. Use the {@link ItemMatcher} overloads with {@link ItemMatcher#of(String)} for looser matching.
  */
 @SuppressWarnings("unused")
 public final class InventoryUtils {
@@ -62,7 +66,145 @@ public final class InventoryUtils {
      * @return true if the inventory contains at least the specified amount
      */
     public static boolean contains(@NotNull InventoryHolder inventory, @NotNull String itemId, int amount) {
-        return countItems(inventory, itemId) >= amount;
+        return contains(inventory, ItemMatcher.exact(itemId), amount);
+    }
+
+    /**
+     * Checks if the inventory contains the item of the matcher.
+     *
+     * @param inventory the inventory to check
+     * @param matcher   the item matcher
+     * @return true if the inventory contains the item
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher) {
+        return contains(inventory, matcher, 1);
+    }
+
+    /**
+     * Checks if the inventory contains at least the specified amount of the item of the matcher.
+     *
+     * @param inventory the inventory to check
+     * @param matcher   the item matcher
+     * @param amount    the minimum amount required
+     * @return true if the inventory contains at least the specified amount
+     * @implNote Stops scanning as soon as the amount is reached.
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher, int amount) {
+        return containsMatching(inventory, SlotView.ALL, matcher, amount, Traversal.TOP_LEVEL);
+    }
+
+    /**
+     * Checks if the inventory contains any item of the item set.
+     *
+     * @param inventory the inventory to check
+     * @param items     the item set
+     * @return true if the inventory contains any item of the set
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull ItemSet items) {
+        return contains(inventory, items, 1);
+    }
+
+    /**
+     * Checks if the inventory contains at least the specified amount of items of the item set, combined.
+     *
+     * @param inventory the inventory to check
+     * @param items     the item set
+     * @param amount    the minimum amount required
+     * @return true if the inventory contains at least the specified amount
+     * @implNote Stops scanning as soon as the amount is reached.
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull ItemSet items, int amount) {
+        return containsMatching(inventory, SlotView.ALL, items, amount, Traversal.TOP_LEVEL);
+    }
+
+    /**
+     * Checks if the inventory contains at least the specified amount of the custom item, optionally looking inside shulker boxes and bundles.
+     *
+     * @param inventory the inventory to check
+     * @param itemId    the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @param amount    the minimum amount required
+     * @param traversal whether to include nested items
+     * @return true if the inventory contains at least the specified amount
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull String itemId, int amount, @NotNull Traversal traversal) {
+        return contains(inventory, ItemMatcher.exact(itemId), amount, traversal);
+    }
+
+    /**
+     * Checks if the inventory contains at least the specified amount of the item of the matcher, optionally looking inside shulker boxes and bundles.
+     *
+     * @param inventory the inventory to check
+     * @param matcher   the item matcher
+     * @param amount    the minimum amount required
+     * @param traversal whether to include nested items
+     * @return true if the inventory contains at least the specified amount
+     * @implNote Stops scanning as soon as the amount is reached.
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher, int amount, @NotNull Traversal traversal) {
+        return containsMatching(inventory, SlotView.ALL, matcher, amount, traversal);
+    }
+
+    /**
+     * Checks if the inventory contains at least the specified amount of items of the item set combined, optionally looking inside shulker boxes and bundles.
+     *
+     * @param inventory the inventory to check
+     * @param items     the item set
+     * @param amount    the minimum amount required
+     * @param traversal whether to include nested items
+     * @return true if the inventory contains at least the specified amount
+     * @implNote Stops scanning as soon as the amount is reached.
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull ItemSet items, int amount, @NotNull Traversal traversal) {
+        return containsMatching(inventory, SlotView.ALL, items, amount, traversal);
+    }
+
+    /**
+     * Checks if the slots of the view contain at least the specified amount of items matching the predicate, combined.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @param amount    the minimum amount required
+     * @return true if the slots contain at least the specified amount
+     * @implNote Stops scanning as soon as the amount is reached.
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate, int amount) {
+        return containsMatching(inventory, view, predicate, amount, Traversal.TOP_LEVEL);
+    }
+
+    /**
+     * Checks if the slots of the view contain at least the specified amount of items matching the predicate combined, optionally looking inside shulker boxes and bundles.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @param amount    the minimum amount required
+     * @param traversal whether to include nested items
+     * @return true if the slots contain at least the specified amount
+     * @implNote Stops scanning as soon as the amount is reached.
+     */
+    public static boolean contains(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate, int amount, @NotNull Traversal traversal) {
+        return containsMatching(inventory, view, predicate, amount, traversal);
+    }
+
+    private static boolean containsMatching(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate, int amount, @NotNull Traversal traversal) {
+        if (amount <= 0)
+            return true;
+
+        final long[] found = {0};
+        final NestedContents.Visitor visitor = (item, multiplier) -> {
+            if (predicate.test(item))
+                found[0] += (long) item.getAmount() * multiplier;
+            return found[0] < amount;
+        };
+
+        // The view stops early once the visitor has found the amount
+        return !view.visit(inventory.getInventory(), (slot, item) -> {
+            if (item == null)
+                return true;
+
+            return traversal == Traversal.NESTED ? NestedContents.visit(item, visitor) : visitor.visit(item, 1);
+        });
     }
 
     /**
@@ -123,11 +265,107 @@ public final class InventoryUtils {
      * @return the total amount of the item
      */
     public static int countItems(@NotNull InventoryHolder inventory, @NotNull String itemId) {
-        return Arrays.stream(inventory.getInventory().getContents())
-            .filter(Objects::nonNull)
-            .filter(item -> itemId.equals(ItemUtils.parse(item)))
-            .mapToInt(ItemStack::getAmount)
-            .sum();
+        return countItems(inventory, ItemMatcher.exact(itemId));
+    }
+
+    /**
+     * Counts the total amount of the item of the matcher in the inventory.
+     *
+     * @param inventory the inventory to check
+     * @param matcher   the item matcher
+     * @return the total amount of the item
+     */
+    public static int countItems(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher) {
+        return countMatching(inventory, SlotView.ALL, matcher, Traversal.TOP_LEVEL);
+    }
+
+    /**
+     * Counts the total amount of items of the item set in the inventory, combined.
+     *
+     * @param inventory the inventory to check
+     * @param items     the item set
+     * @return the total amount of items of the set
+     */
+    public static int countItems(@NotNull InventoryHolder inventory, @NotNull ItemSet items) {
+        return countMatching(inventory, SlotView.ALL, items, Traversal.TOP_LEVEL);
+    }
+
+    /**
+     * Counts the total amount of the specified custom item in the inventory, optionally including shulker boxes and bundles.
+     *
+     * @param inventory the inventory to check
+     * @param itemId    the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @param traversal whether to include nested items
+     * @return the total amount of the item
+     */
+    public static int countItems(@NotNull InventoryHolder inventory, @NotNull String itemId, @NotNull Traversal traversal) {
+        return countItems(inventory, ItemMatcher.exact(itemId), traversal);
+    }
+
+    /**
+     * Counts the total amount of the item of the matcher in the inventory, optionally including shulker boxes and bundles.
+     *
+     * @param inventory the inventory to check
+     * @param matcher   the item matcher
+     * @param traversal whether to include nested items
+     * @return the total amount of the item
+     */
+    public static int countItems(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher, @NotNull Traversal traversal) {
+        return countMatching(inventory, SlotView.ALL, matcher, traversal);
+    }
+
+    /**
+     * Counts the total amount of items of the item set in the inventory combined, optionally including shulker boxes and bundles.
+     *
+     * @param inventory the inventory to check
+     * @param items     the item set
+     * @param traversal whether to include nested items
+     * @return the total amount of items of the set
+     */
+    public static int countItems(@NotNull InventoryHolder inventory, @NotNull ItemSet items, @NotNull Traversal traversal) {
+        return countMatching(inventory, SlotView.ALL, items, traversal);
+    }
+
+    /**
+     * Counts the total amount of items matching the predicate in the slots of the view, combined.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @return the total amount of matching items
+     */
+    public static int countItems(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate) {
+        return countMatching(inventory, view, predicate, Traversal.TOP_LEVEL);
+    }
+
+    /**
+     * Counts the total amount of items matching the predicate in the slots of the view combined, optionally including shulker boxes and bundles.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @param traversal whether to include nested items
+     * @return the total amount of matching items
+     */
+    public static int countItems(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate, @NotNull Traversal traversal) {
+        return countMatching(inventory, view, predicate, traversal);
+    }
+
+    private static int countMatching(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate, @NotNull Traversal traversal) {
+        final long[] count = {0};
+        final NestedContents.Visitor visitor = (item, multiplier) -> {
+            if (predicate.test(item))
+                count[0] += (long) item.getAmount() * multiplier;
+            return true;
+        };
+
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            if (item == null)
+                return true;
+
+            return traversal == Traversal.NESTED ? NestedContents.visit(item, visitor) : visitor.visit(item, 1);
+        });
+        return (int) Math.min(Integer.MAX_VALUE, count[0]);
     }
 
     /**
@@ -138,11 +376,7 @@ public final class InventoryUtils {
      * @return the total amount of the item
      */
     public static int countItems(@NotNull InventoryHolder inventory, @NotNull ItemStack item) {
-        return Arrays.stream(inventory.getInventory().getContents())
-            .filter(Objects::nonNull)
-            .filter(stack -> stack.isSimilar(item))
-            .mapToInt(ItemStack::getAmount)
-            .sum();
+        return countMatching(inventory, SlotView.ALL, stack -> stack.isSimilar(item), Traversal.TOP_LEVEL);
     }
 
     /**
@@ -153,11 +387,34 @@ public final class InventoryUtils {
      * @return the total amount of the material
      */
     public static int countItems(@NotNull InventoryHolder inventory, @NotNull Material material) {
-        return Arrays.stream(inventory.getInventory().getContents())
-            .filter(Objects::nonNull)
-            .filter(item -> item.getType() == material)
-            .mapToInt(ItemStack::getAmount)
-            .sum();
+        return countMatching(inventory, SlotView.ALL, item -> item.getType() == material, Traversal.TOP_LEVEL);
+    }
+
+    /**
+     * Counts the total amount of every item in the inventory, resolving each item id once per slot.
+     *
+     * @param inventory the inventory to check
+     * @return a histogram of item ids to amounts
+     */
+    public static @NotNull ItemHistogram histogram(@NotNull InventoryHolder inventory) {
+        return histogram(inventory, SlotView.ALL);
+    }
+
+    /**
+     * Counts the total amount of every item in the slots of the view, resolving each item id once per slot.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @return a histogram of item ids to amounts
+     */
+    public static @NotNull ItemHistogram histogram(@NotNull InventoryHolder inventory, @NotNull SlotView view) {
+        final ProviderSnapshot providers = ItemUtils.snapshotProviders();
+        final ItemHistogram histogram = new ItemHistogram();
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            histogram.add(item, providers, stack -> true);
+            return true;
+        });
+        return histogram;
     }
 
     /**
@@ -201,24 +458,100 @@ public final class InventoryUtils {
      * @see Inventory#removeItem(ItemStack...)
      */
     public static @NotNull Map<Integer, ItemStack> removeItem(@NotNull InventoryHolder inventory, @NotNull String itemId, int amount) {
-        int remaining = amount;
-        final ItemStack[] contents = inventory.getInventory().getContents();
+        return removeItem(inventory, ItemMatcher.exact(itemId), amount);
+    }
+
+    /**
+     * Removes the specified amount of the item of the matcher from the inventory.
+     *
+     * @param inventory the inventory to remove from
+     * @param matcher   the item matcher
+     * @param amount    the amount to remove
+     * @return a map of items that couldn't be removed (if insufficient quantity)
+     * @see Inventory#removeItem(ItemStack...)
+     */
+    public static @NotNull Map<Integer, ItemStack> removeItem(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher, int amount) {
+        return removeItem(inventory, SlotView.ALL, matcher, amount);
+    }
+
+    /**
+     * Removes the specified amount of the item of the matcher from the slots of the view.
+     *
+     * @param inventory the inventory to remove from
+     * @param view      the slots to remove from
+     * @param matcher   the item matcher
+     * @param amount    the amount to remove
+     * @return a map of items that couldn't be removed (if insufficient quantity)
+     * @implNote Like {@link Inventory#removeItem(ItemStack...)} the leftover is keyed by argument index, so it is
+     * always {@code 0}. The leftover item is a copy of the first removed item, or the parsed item id if nothing was removed.
+     * If the item id can't be parsed either, like a custom item that was removed or is not loaded yet, the leftover is an
+     * {@link Material#AIR} item carrying the amount that couldn't be removed.
+     */
+    public static @NotNull Map<Integer, ItemStack> removeItem(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull ItemMatcher matcher, int amount) {
+        final ItemStack[] removed = new ItemStack[1];
+        final int remaining = removeMatching(inventory, view, matcher, amount, removed);
+
+        final HashMap<Integer, ItemStack> leftover = new HashMap<>();
+        if (remaining > 0) {
+            final @Nullable ItemStack parsed = removed[0] != null ? removed[0] : ItemUtils.parse(matcher.getItemId());
+            final ItemStack item = parsed != null ? parsed : new ItemStack(Material.AIR);
+            item.setAmount(remaining);
+            leftover.put(0, item);
+        }
+        return leftover;
+    }
+
+    /**
+     * Removes the specified amount of items matching the predicate from the inventory, in slot order.
+     *
+     * @param inventory the inventory to remove from
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @param amount    the combined amount to remove
+     * @return the amount that couldn't be removed (if insufficient quantity)
+     */
+    public static int removeMatching(@NotNull InventoryHolder inventory, @NotNull Predicate<ItemStack> predicate, int amount) {
+        return removeMatching(inventory, SlotView.ALL, predicate, amount, null);
+    }
+
+    /**
+     * Removes the specified amount of items matching the predicate from the slots of the view, in slot order.
+     *
+     * @param inventory the inventory to remove from
+     * @param view      the slots to remove from
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @param amount    the combined amount to remove
+     * @return the amount that couldn't be removed (if insufficient quantity)
+     */
+    public static int removeMatching(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate, int amount) {
+        return removeMatching(inventory, view, predicate, amount, null);
+    }
+
+    /**
+     * Removes matching items in slot order, storing a copy of the first removed item in {@code removed} if it is given.
+     */
+    private static int removeMatching(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate, int amount, @Nullable ItemStack @Nullable [] removed) {
+        if (amount <= 0)
+            return amount;
+
+        final int[] remaining = {amount};
+
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            if (item != null && predicate.test(item)) {
+                if (removed != null && removed[0] == null)
+                    removed[0] = item.clone();
 
-        for (int i = 0; i < contents.length && remaining > 0; i++) {
-            final ItemStack item = contents[i];
-            if (item != null && itemId.equals(ItemUtils.parse(item))) {
                 int itemAmount = item.getAmount();
-                if (itemAmount <= remaining) {
-                    remaining -= itemAmount;
-                    inventory.getInventory().setItem(i, null);
+                if (itemAmount <= remaining[0]) {
+                    remaining[0] -= itemAmount;
+                    inventory.getInventory().setItem(slot, null);
                 } else {
-                    item.setAmount(itemAmount - remaining);
-                    remaining = 0;
+                    item.setAmount(itemAmount - remaining[0]);
+                    remaining[0] = 0;
                 }
             }
-        }
-
-        return new HashMap<>();
+            return remaining[0] > 0;
+        });
+        return remaining[0];
     }
 
     /**
@@ -244,6 +577,17 @@ public final class InventoryUtils {
         return inventory.getInventory().firstEmpty();
     }
 
+    /**
+     * Gets the first empty slot index in the slots of the view.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @return the first empty slot index, or -1 if no empty slots
+     */
+    public static int firstEmpty(@NotNull InventoryHolder inventory, @NotNull SlotView view) {
+        return firstMatching(inventory, view, item -> item == null || item.getType() == Material.AIR);
+    }
+
     /**
      * Gets the first slot index containing the specified custom item.
      *
@@ -255,14 +599,45 @@ public final class InventoryUtils {
      * @see org.bukkit.inventory.Inventory#first(ItemStack)
      */
     public static int first(@NotNull InventoryHolder inventory, @NotNull String itemId, int amount) {
-        final ItemStack[] contents = inventory.getInventory().getContents();
-        for (int i = 0; i < contents.length; i++) {
-            final ItemStack item = contents[i];
-            if (item != null && itemId.equals(ItemUtils.parse(item)) && item.getAmount() == amount) {
-                return i;
-            }
-        }
-        return -1;
+        return first(inventory, ItemMatcher.exact(itemId), amount);
+    }
+
+    /**
+     * Gets the first slot index containing the item of the matcher.
+     *
+     * @param inventory the inventory to check
+     * @param matcher   the item matcher
+     * @param amount    the item amount to match
+     * @return the first slot index containing the item, or -1 if not found
+     * @apiNote This method will only match items that share the exact item amount.
+     * @see org.bukkit.inventory.Inventory#first(ItemStack)
+     */
+    public static int first(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher, int amount) {
+        return firstMatching(inventory, SlotView.ALL, item -> item != null && item.getAmount() == amount && matcher.test(item));
+    }
+
+    /**
+     * Gets the first slot index in the slots of the view containing an item matching the predicate.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @return the first slot index containing a matching item, or -1 if not found
+     */
+    public static int first(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate) {
+        return firstMatching(inventory, view, item -> item != null && predicate.test(item));
+    }
+
+    private static int firstMatching(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<@Nullable ItemStack> predicate) {
+        final int[] first = {-1};
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            if (!predicate.test(item))
+                return true;
+
+            first[0] = slot;
+            return false;
+        });
+        return first[0];
     }
 
     /**
@@ -300,14 +675,36 @@ public final class InventoryUtils {
      * @see org.bukkit.inventory.Inventory#all(ItemStack)
      */
     public static @NotNull Map<Integer, ? extends ItemStack> all(@NotNull InventoryHolder inventory, @NotNull String itemId) {
+        return all(inventory, ItemMatcher.exact(itemId));
+    }
+
+    /**
+     * Gets all slot indices containing the item of the matcher.
+     *
+     * @param inventory the inventory to check
+     * @param matcher   the item matcher
+     * @return a map of slot indices to ItemStacks
+     * @see org.bukkit.inventory.Inventory#all(ItemStack)
+     */
+    public static @NotNull Map<Integer, ? extends ItemStack> all(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher) {
+        return all(inventory, SlotView.ALL, matcher);
+    }
+
+    /**
+     * Gets all slot indices in the slots of the view containing an item matching the predicate.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @return a map of slot indices to ItemStacks
+     */
+    public static @NotNull Map<Integer, ? extends ItemStack> all(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate) {
         final Map<Integer, ItemStack> slots = new HashMap<>();
-        final ItemStack[] contents = inventory.getInventory().getContents();
-        for (int i = 0; i < contents.length; i++) {
-            final ItemStack item = contents[i];
-            if (item != null && itemId.equals(ItemUtils.parse(item))) {
-                slots.put(i, item);
-            }
-        }
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            if (item != null && predicate.test(item))
+                slots.put(slot, item);
+            return true;
+        });
         return slots;
     }
 
@@ -377,6 +774,56 @@ public final class InventoryUtils {
         return inventory.getInventory().getSize() - getEmptySlots(inventory);
     }
 
+    /**
+     * Checks if the slots of the view are empty.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @return true if the slots are empty
+     */
+    public static boolean isEmpty(@NotNull InventoryHolder inventory, @NotNull SlotView view) {
+        return firstMatching(inventory, view, item -> item != null && item.getType() != Material.AIR) == -1;
+    }
+
+    /**
+     * Checks if the slots of the view are full.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @return true if the slots are full
+     */
+    public static boolean isFull(@NotNull InventoryHolder inventory, @NotNull SlotView view) {
+        return firstEmpty(inventory, view) == -1;
+    }
+
+    /**
+     * Gets the number of empty slots in the slots of the view.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @return the number of empty slots
+     */
+    public static int getEmptySlots(@NotNull InventoryHolder inventory, @NotNull SlotView view) {
+        final int[] empty = {0};
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            if (item == null || item.getType() == Material.AIR)
+                empty[0]++;
+            return true;
+        });
+        return empty[0];
+    }
+
+    /**
+     * Gets the number of occupied slots in the slots of the view.
+     *
+     * @param inventory the inventory to check
+     * @param view      the slots to check
+     * @return the number of occupied slots
+     */
+    public static int getOccupiedSlots(@NotNull InventoryHolder inventory, @NotNull SlotView view) {
+        return (int) view.slots(inventory.getInventory()).count() - getEmptySlots(inventory, view);
+    }
+
     /**
      * Clears the inventory completely.
      *
@@ -391,15 +838,67 @@ public final class InventoryUtils {
      *
      * @param inventory the inventory to clear from
      * @param itemId    the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @apiNote Use {@link #clear(InventoryHolder, ItemMatcher)} with {@link ItemMatcher#exact(String)} to get the amount of items cleared.
      */
     public static void clear(@NotNull InventoryHolder inventory, @NotNull String itemId) {
-        final ItemStack[] contents = inventory.getInventory().getContents();
-        for (int i = 0; i < contents.length; i++) {
-            final ItemStack item = contents[i];
-            if (item != null && itemId.equals(ItemUtils.parse(item))) {
-                inventory.getInventory().clear(i);
+        clear(inventory, ItemMatcher.exact(itemId));
+    }
+
+    /**
+     * Clears all instances of the item of the matcher from the inventory.
+     *
+     * @param inventory the inventory to clear from
+     * @param matcher   the item matcher
+     * @return the amount of items cleared
+     */
+    public static int clear(@NotNull InventoryHolder inventory, @NotNull ItemMatcher matcher) {
+        return clearMatching(inventory, SlotView.ALL, matcher);
+    }
+
+    /**
+     * Clears all items of the item set from the inventory.
+     *
+     * @param inventory the inventory to clear from
+     * @param items     the item set
+     * @return the amount of items cleared
+     */
+    public static int clear(@NotNull InventoryHolder inventory, @NotNull ItemSet items) {
+        return clearMatching(inventory, SlotView.ALL, items);
+    }
+
+    /**
+     * Clears the slots of the view.
+     *
+     * @param inventory the inventory to clear
+     * @param view      the slots to clear
+     * @return the amount of items cleared
+     */
+    public static int clear(@NotNull InventoryHolder inventory, @NotNull SlotView view) {
+        return clearMatching(inventory, view, item -> true);
+    }
+
+    /**
+     * Clears all items matching the predicate from the slots of the view.
+     *
+     * @param inventory the inventory to clear from
+     * @param view      the slots to clear from
+     * @param predicate the item predicate, like an {@link ItemMatcher} or {@link ItemSet}
+     * @return the amount of items cleared
+     */
+    public static int clear(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate) {
+        return clearMatching(inventory, view, predicate);
+    }
+
+    private static int clearMatching(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate) {
+        final int[] cleared = {0};
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            if (item != null && predicate.test(item)) {
+                cleared[0] += item.getAmount();
+                inventory.getInventory().clear(slot);
             }
-        }
+            return true;
+        });
+        return cleared[0];
     }
 
     /**
@@ -452,7 +951,7 @@ public final class InventoryUtils {
      * Finds items in the inventory matching the given predicate.
      *
      * @param inventory the inventory to search
-     * @param predicate the condition to match
+     * @param predicate the condition to match, like an {@link ItemMatcher} or {@link ItemSet}
      * @return a list of matching ItemStacks
      */
     public static @NotNull List<ItemStack> findItems(@NotNull InventoryHolder inventory, @NotNull Predicate<ItemStack> predicate) {
@@ -462,11 +961,29 @@ public final class InventoryUtils {
             .toList();
     }
 
+    /**
+     * Finds items in the inventory matching the given predicate, optionally including items inside shulker boxes and bundles.
+     *
+     * @param inventory the inventory to search
+     * @param predicate the condition to match, like an {@link ItemMatcher} or {@link ItemSet}
+     * @param traversal whether to include nested items
+     * @return a list of matching ItemStacks
+     * @apiNote Nested items are returned as copies, modifying them does not change the container they were found in.
+     * The amount of a copy is multiplied by the amount of the containers holding it, like three identical shulker boxes
+     * each holding a stack of 64 are returned as a single copy of 192.
+     */
+    public static @NotNull List<ItemStack> findItems(@NotNull InventoryHolder inventory, @NotNull Predicate<ItemStack> predicate, @NotNull Traversal traversal) {
+        if (traversal == Traversal.TOP_LEVEL)
+            return findItems(inventory, predicate);
+
+        return findItems(inventory, SlotView.ALL, predicate, traversal);
+    }
+
     /**
      * Finds item slots in the inventory matching the given predicate.
      *
      * @param inventory the inventory to search
-     * @param predicate the condition to match
+     * @param predicate the condition to match, like an {@link ItemMatcher} or {@link ItemSet}
      * @return a list of slot indices
      */
     public static @NotNull List<Integer> findSlots(@NotNull InventoryHolder inventory, @NotNull Predicate<ItemStack> predicate) {
@@ -477,6 +994,75 @@ public final class InventoryUtils {
             .toList();
     }
 
+    /**
+     * Finds items in the slots of the view matching the given predicate.
+     *
+     * @param inventory the inventory to search
+     * @param view      the slots to search
+     * @param predicate the condition to match, like an {@link ItemMatcher} or {@link ItemSet}
+     * @return a list of matching ItemStacks
+     */
+    public static @NotNull List<ItemStack> findItems(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate) {
+        return findItems(inventory, view, predicate, Traversal.TOP_LEVEL);
+    }
+
+    /**
+     * Finds items in the slots of the view matching the given predicate, optionally including items inside shulker boxes and bundles.
+     *
+     * @param inventory the inventory to search
+     * @param view      the slots to search
+     * @param predicate the condition to match, like an {@link ItemMatcher} or {@link ItemSet}
+     * @param traversal whether to include nested items
+     * @return a list of matching ItemStacks
+     * @apiNote Nested items are returned as copies, like {@link #findItems(InventoryHolder, Predicate, Traversal)} returns them.
+     */
+    public static @NotNull List<ItemStack> findItems(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate, @NotNull Traversal traversal) {
+        final List<ItemStack> items = new ArrayList<>();
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            if (item == null)
+                return true;
+
+            if (traversal == Traversal.TOP_LEVEL) {
+                if (predicate.test(item))
+                    items.add(item);
+                return true;
+            }
+
+            return NestedContents.visit(item, (nested, multiplier) -> {
+                if (!predicate.test(nested))
+                    return true;
+
+                if (nested == item) {
+                    items.add(item);
+                } else {
+                    final ItemStack copy = nested.clone();
+                    copy.setAmount(NestedContents.multiply(nested.getAmount(), multiplier));
+                    items.add(copy);
+                }
+                return true;
+            });
+        });
+        return items;
+    }
+
+    /**
+     * Finds item slots in the slots of the view matching the given predicate.
+     *
+     * @param inventory the inventory to search
+     * @param view      the slots to search
+     * @param predicate the condition to match, like an {@link ItemMatcher} or {@link ItemSet}
+     * @return a list of slot indices
+     */
+    public static @NotNull List<Integer> findSlots(@NotNull InventoryHolder inventory, @NotNull SlotView view, @NotNull Predicate<ItemStack> predicate) {
+        final List<Integer> slots = new ArrayList<>();
+        view.visit(inventory.getInventory(), (slot, item) -> {
+            if (item != null && predicate.test(item))
+                slots.add(slot);
+            return true;
+        });
+        return slots;
+    }
+
     /**
      * Swaps items between two slots in the inventory.
      *
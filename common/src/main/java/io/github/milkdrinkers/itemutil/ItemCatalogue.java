@@ -0,0 +1,321 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * The {@link ItemCatalogue} mirrors the item ids of every loaded {@link ItemProvider} into sorted arrays,
+ * so existence checks and tab completion never have to ask the item plugins.
+ * <p>
+ * Vanilla items are listed without namespace ({@code "stone"}), custom items with the first namespace
+ * of their provider ({@code "nexo:ruby_sword"}). Prefixes using an alias namespace, like {@code "ia:"},
+ * are searched under the namespace of the provider they resolve to.
+ *
+ * <pre>{@code
+ * // In onEnable
+ * ItemCatalogue.getInstance().register(this);
+ *
+ * // In a tab completer
+ * return ItemCatalogue.getInstance().suggest(args[0], 50);
+ * }</pre>
+ *
+ * @apiNote Until {@link #register(Plugin)} is called the catalogue is empty, and {@link ItemUtils#exists(String)} asks the item plugins as before.
+ * Item plugins populate their registry some time after they are enabled, so {@link ItemUtils#exists(String)} keeps asking an item plugin
+ * until the catalogue has seen its items loaded event, even if the provider is already {@link #isIndexed(ItemProvider) indexed}.
+ */
+@SuppressWarnings("unused")
+public final class ItemCatalogue {
+    private static final ItemCatalogue INSTANCE = new ItemCatalogue();
+
+    private volatile Map<ItemProvider, String[]> index = Map.of();
+    private volatile String[] sorted = new String[0];
+    private final Set<ItemProvider> hooked = EnumSet.noneOf(ItemProvider.class);
+    private final Set<ItemProvider> withLoadEvent = EnumSet.noneOf(ItemProvider.class);
+    private final Set<ItemProvider> itemsLoaded = ConcurrentHashMap.newKeySet();
+    private final Listener listener = new CatalogueListener();
+    private @Nullable Plugin plugin;
+
+    private ItemCatalogue() {
+    }
+
+    /**
+     * Gets the catalogue.
+     *
+     * @return the catalogue
+     */
+    public static @NotNull ItemCatalogue getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Indexes all loaded item providers, and keeps the catalogue up to date as item plugins are enabled, disabled or reload their items.
+     *
+     * @param plugin the plugin owning the listeners
+     * @return this catalogue
+     * @throws IllegalStateException if the catalogue was already registered by another plugin
+     */
+    public synchronized @NotNull ItemCatalogue register(final @NotNull Plugin plugin) {
+        if (this.plugin != null && this.plugin != plugin)
+            throw new IllegalStateException("Catalogue was already registered by " + this.plugin.getName());
+
+        if (this.plugin == null) {
+            this.plugin = plugin;
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+        }
+
+        for (final ItemProvider provider : ItemProvider.values()) {
+            if (provider.isLoaded())
+                load(provider);
+        }
+        return this;
+    }
+
+    /**
+     * Stops keeping the catalogue up to date and clears it.
+     */
+    public synchronized void unregister() {
+        HandlerList.unregisterAll(listener);
+        hooked.clear();
+        withLoadEvent.clear();
+        itemsLoaded.clear();
+        plugin = null;
+        index = Map.of();
+        sorted = new String[0];
+    }
+
+    /**
+     * Reindexes the item ids of the provider.
+     *
+     * @param provider the item provider
+     * @apiNote Unloaded providers are removed from the catalogue instead.
+     */
+    public synchronized void reload(final @NotNull ItemProvider provider) {
+        if (!provider.isLoaded()) {
+            remove(provider);
+            return;
+        }
+
+        final String namespace = provider == ItemProvider.VANILLA ? "" : provider.getNamespaces().get(0) + ":";
+        final String[] itemIds;
+        try {
+            itemIds = provider.getIntegration()
+                .getItemIds()
+                .stream()
+                .map(itemId -> namespace + itemId)
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+        } catch (Exception e) {
+            // Keep asking the plugin, rather than trusting an incomplete index
+            if (plugin != null)
+                plugin.getLogger().log(Level.WARNING, "Failed to index items of " + provider, e);
+            remove(provider);
+            return;
+        }
+
+        final Map<ItemProvider, String[]> copy = new EnumMap<>(ItemProvider.class);
+        copy.putAll(index);
+        copy.put(provider, itemIds);
+        update(copy);
+    }
+
+    /**
+     * Check whether the item ids of the provider are in the catalogue.
+     *
+     * @param provider the item provider
+     * @return boolean
+     */
+    public boolean isIndexed(final @NotNull ItemProvider provider) {
+        return index.containsKey(provider);
+    }
+
+    /**
+     * Gets the amount of item ids in the catalogue.
+     *
+     * @return the amount of item ids
+     */
+    public int size() {
+        return sorted.length;
+    }
+
+    /**
+     * Check whether the item id is in the catalogue.
+     *
+     * @param itemId the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @return boolean
+     */
+    public boolean contains(final @NotNull String itemId) {
+        final Map<ItemProvider, String[]> current = index;
+        final ItemProvider provider = providerOf(current, itemId);
+        return contains(current, provider, itemId);
+    }
+
+    /**
+     * Gets the first item ids in alphabetical order starting with the prefix.
+     *
+     * @param prefix the prefix, may contain a namespace
+     * @param limit  the maximum amount of item ids
+     * @return item ids in the format of the catalogue
+     */
+    public @NotNull List<String> suggest(final @NotNull String prefix, final int limit) {
+        if (limit <= 0)
+            return List.of();
+
+        final Map<ItemProvider, String[]> current = index;
+        final String[] itemIds = sorted;
+        final String key = normalize(providerOf(current, prefix), prefix);
+
+        final List<String> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(itemIds, key); i < itemIds.length && suggestions.size() < limit; i++) {
+            if (!itemIds[i].startsWith(key))
+                break;
+
+            suggestions.add(itemIds[i]);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Check whether the catalogue can answer if the item id exists, without asking the item plugin.
+     *
+     * @param provider the item provider owning the item id
+     * @param itemId   the item id
+     * @return boolean
+     * @implNote Vanilla items are cheaper to look up by material, and namespaced ItemsAdder ids ({@code "itemsadder:namespace:id"}) are not indexed.
+     * Providers are only covered once their items loaded event has been seen, before that the index may be missing items.
+     */
+    boolean covers(final @NotNull ItemProvider provider, final @NotNull String itemId) {
+        return provider != ItemProvider.VANILLA && itemsLoaded.contains(provider) && isIndexed(provider) && provider.stripNamespace(itemId).indexOf(':') < 0;
+    }
+
+    /**
+     * Same as {@link #contains(String)}, for an item id already resolved to its provider.
+     */
+    boolean contains(final @NotNull ItemProvider provider, final @NotNull String itemId) {
+        return contains(index, provider, itemId);
+    }
+
+    private static boolean contains(final Map<ItemProvider, String[]> current, final ItemProvider provider, final String itemId) {
+        final String @Nullable [] itemIds = current.get(provider);
+        if (itemIds == null)
+            return false;
+
+        final String key = normalize(provider, provider == ItemProvider.VANILLA ? itemId.toLowerCase(Locale.ROOT) : itemId);
+        return Arrays.binarySearch(itemIds, key) >= 0;
+    }
+
+    private synchronized void load(final ItemProvider provider) {
+        if (plugin != null && hooked.add(provider)) {
+            final boolean hasEvent = provider.getIntegration().onItemsLoaded(plugin, listener, () -> {
+                reload(provider);
+                itemsLoaded.add(provider);
+            });
+            if (hasEvent)
+                withLoadEvent.add(provider);
+        }
+
+        // Without an items loaded event the items are complete once the plugin is enabled
+        if (!withLoadEvent.contains(provider))
+            itemsLoaded.add(provider);
+
+        reload(provider);
+    }
+
+    private synchronized void remove(final ItemProvider provider) {
+        if (!index.containsKey(provider))
+            return;
+
+        final Map<ItemProvider, String[]> copy = new EnumMap<>(ItemProvider.class);
+        copy.putAll(index);
+        copy.remove(provider);
+        update(copy);
+    }
+
+    private void update(final Map<ItemProvider, String[]> copy) {
+        final String[] merged = copy.values()
+            .stream()
+            .flatMap(Arrays::stream)
+            .sorted()
+            .toArray(String[]::new);
+
+        index = Collections.unmodifiableMap(copy);
+        sorted = merged;
+    }
+
+    /**
+     * Finds the indexed provider owning the namespace of the item id, in the same order as {@link ItemUtils#getProvider(String)}.
+     */
+    private static ItemProvider providerOf(final Map<ItemProvider, String[]> current, final String itemId) {
+        for (final ItemProvider provider : current.keySet()) {
+            if (provider != ItemProvider.VANILLA && provider.hasNamespace(itemId))
+                return provider;
+        }
+        return ItemProvider.VANILLA;
+    }
+
+    /**
+     * Rewrites the item id to the format of the catalogue, replacing alias namespaces with the first namespace of the provider.
+     */
+    private static String normalize(final ItemProvider provider, final String itemId) {
+        final String key = provider.stripNamespace(itemId);
+        return provider == ItemProvider.VANILLA ? key : provider.getNamespaces().get(0) + ":" + key;
+    }
+
+    private static int lowerBound(final String[] itemIds, final String key) {
+        final int index = Arrays.binarySearch(itemIds, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private final class CatalogueListener implements Listener {
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginEnable(final PluginEnableEvent e) {
+            for (final ItemProvider provider : ItemProvider.values()) {
+                if (provider.getPluginName().equals(e.getPlugin().getName()))
+                    load(provider);
+            }
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginDisable(final PluginDisableEvent e) {
+            for (final ItemProvider provider : ItemProvider.values()) {
+                if (provider.getPluginName().equals(e.getPlugin().getName())) {
+                    itemsLoaded.remove(provider);
+                    remove(provider);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * An {@link ItemHistogram} counts the total amount of items per item id.
+ *
+ * @implNote Histograms are not thread safe, merge histograms built on different threads instead of sharing one.
+ */
+@SuppressWarnings("unused")
+public final class ItemHistogram {
+    private final Map<String, Long> counts = new HashMap<>();
+
+    /**
+     * Creates a new empty histogram.
+     */
+    public ItemHistogram() {
+    }
+
+    /**
+     * Creates a histogram of the item stacks.
+     *
+     * @param contents  the item stacks, null and air stacks are skipped
+     * @param providers the provider snapshot used to resolve item ids
+     * @param filter    only item stacks matching this filter are counted
+     * @return a new histogram
+     */
+    public static @NotNull ItemHistogram of(final @Nullable ItemStack @NotNull [] contents, final @NotNull ProviderSnapshot providers, final @NotNull Predicate<ItemStack> filter) {
+        final ItemHistogram histogram = new ItemHistogram();
+        for (final @Nullable ItemStack item : contents)
+            histogram.add(item, providers, filter);
+        return histogram;
+    }
+
+    /**
+     * Creates a histogram of the item stacks.
+     *
+     * @param contents  the item stacks, null and air stacks are skipped
+     * @param providers the provider snapshot used to resolve item ids
+     * @return a new histogram
+     */
+    public static @NotNull ItemHistogram of(final @Nullable ItemStack @NotNull [] contents, final @NotNull ProviderSnapshot providers) {
+        return of(contents, providers, item -> true);
+    }
+
+    /**
+     * Counts the item stack, if it matches the filter.
+     *
+     * @param item      the item stack, null and air stacks are skipped
+     * @param providers the provider snapshot used to resolve the item id
+     * @param filter    the item stack is only counted if it matches this filter
+     */
+    public void add(final @Nullable ItemStack item, final @NotNull ProviderSnapshot providers, final @NotNull Predicate<ItemStack> filter) {
+        if (item == null || item.getType() == Material.AIR || !filter.test(item))
+            return;
+
+        add(providers.parse(item), item.getAmount());
+    }
+
+    /**
+     * Adds the amount to the count of the item id.
+     *
+     * @param itemId the item id
+     * @param amount the amount
+     */
+    public void add(final @NotNull String itemId, final long amount) {
+        counts.merge(itemId, amount, Long::sum);
+    }
+
+    /**
+     * Adds all counts of the other histogram to this histogram.
+     *
+     * @param other the other histogram
+     */
+    public void merge(final @NotNull ItemHistogram other) {
+        other.counts.forEach(this::add);
+    }
+
+    /**
+     * Gets the counted amount of the item id.
+     *
+     * @param itemId the item id
+     * @return the amount, or {@code 0} if the item id was never counted
+     */
+    public long get(final @NotNull String itemId) {
+        return counts.getOrDefault(itemId, 0L);
+    }
+
+    /**
+     * Gets the total amount of all counted items.
+     *
+     * @return the total amount
+     */
+    public long total() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Check whether no items were counted.
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    /**
+     * Gets an unmodifiable view of the counts per item id.
+     *
+     * @return map of item ids to amounts
+     */
+    public @NotNull Map<String, Long> asMap() {
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "ItemHistogram" + counts;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An {@link ItemMatcher} is an item id that has been resolved once,
+ * so it can be matched against many item stacks cheaply.
+ * <p>
+ * Vanilla item ids are matched by {@link Material} first and only ask the
+ * custom item providers about stacks of that material. Custom item ids
+ * only ask the {@link ItemProvider} owning their namespace.
+ * <p>
+ * Matchers created with {@link #of(String)} accept any spelling of the item id the
+ * provider understands, like {@code "stone"} for {@code "minecraft:stone"}. Matchers
+ * created with {@link #exact(String)} only accept stacks whose parsed item id is equal
+ * to the item id, like the {@code String} overloads of {@link InventoryUtils} do.
+ *
+ * @see ItemUtils#match(ItemStack, String)
+ */
+@SuppressWarnings("unused")
+public final class ItemMatcher implements Predicate<ItemStack> {
+    private final String itemId;
+    private final ItemProvider provider;
+    private final String key;
+    private final @Nullable Material material;
+    private final List<ItemProvider> customProviders;
+    private final boolean exact;
+
+    private ItemMatcher(final String itemId, final ProviderSnapshot snapshot, final boolean exact) {
+        this.itemId = itemId;
+        this.provider = snapshot.getProvider(itemId);
+        this.key = provider.stripNamespace(itemId);
+        this.exact = exact;
+
+        final @Nullable Material matched = provider == ItemProvider.VANILLA ? Material.matchMaterial(key) : null;
+        // An exact vanilla item id has to be spelled like ItemUtils#parse(ItemStack) returns it, otherwise nothing matches
+        this.material = matched != null && exact && !itemId.equals(matched.getKey().asString()) ? null : matched;
+        this.customProviders = snapshot.getProviders()
+            .stream()
+            .filter(p -> p != ItemProvider.VANILLA)
+            .toList();
+    }
+
+    /**
+     * Creates a matcher for the item id, using the currently loaded item providers.
+     *
+     * @param itemId the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @return an item matcher
+     */
+    public static @NotNull ItemMatcher of(final @NotNull String itemId) {
+        return of(itemId, ItemUtils.snapshotProviders());
+    }
+
+    /**
+     * Creates a matcher for the item id, using the item providers of the snapshot.
+     *
+     * @param itemId    the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @param providers the provider snapshot
+     * @return an item matcher
+     */
+    public static @NotNull ItemMatcher of(final @NotNull String itemId, final @NotNull ProviderSnapshot providers) {
+        return new ItemMatcher(itemId, providers, false);
+    }
+
+    /**
+     * Creates a matcher only accepting item stacks whose item id is equal to the item id, using the currently loaded item providers.
+     *
+     * @param itemId the item id, as returned by {@link ItemUtils#parse(ItemStack)}
+     * @return an item matcher
+     */
+    public static @NotNull ItemMatcher exact(final @NotNull String itemId) {
+        return exact(itemId, ItemUtils.snapshotProviders());
+    }
+
+    /**
+     * Creates a matcher only accepting item stacks whose item id is equal to the item id, using the item providers of the snapshot.
+     *
+     * @param itemId    the item id, as returned by {@link ItemUtils#parse(ItemStack)}
+     * @param providers the provider snapshot
+     * @return an item matcher
+     */
+    public static @NotNull ItemMatcher exact(final @NotNull String itemId, final @NotNull ProviderSnapshot providers) {
+        return new ItemMatcher(itemId, providers, true);
+    }
+
+    /**
+     * Gets the item id this matcher was created from.
+     *
+     * @return item id
+     */
+    public @NotNull String getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Gets the item provider owning the item id.
+     *
+     * @return an item provider
+     */
+    public @NotNull ItemProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Check if this matcher only accepts item stacks whose item id is equal to the item id.
+     *
+     * @return boolean
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Check if the item stack is the item of this matcher.
+     *
+     * @param itemStack the item stack
+     * @return boolean
+     */
+    @Override
+    public boolean test(final @Nullable ItemStack itemStack) {
+        if (itemStack == null)
+            return false;
+
+        if (provider == ItemProvider.VANILLA) {
+            if (material == null || itemStack.getType() != material)
+                return false;
+
+            // A custom item using this material is not a vanilla item
+            for (final ItemProvider customProvider : customProviders) {
+                if (customProvider.parseLoadedItem(itemStack) != null)
+                    return false;
+            }
+            return true;
+        }
+
+        final @Nullable String parsedItemId = provider.parseLoadedItem(itemStack);
+        if (parsedItemId == null)
+            return false;
+
+        return exact ? parsedItemId.equals(itemId) : provider.stripNamespace(parsedItemId).equals(key);
+    }
+}
\ No newline at end of file
@@ -21,40 +21,48 @@
 
 package io.github.milkdrinkers.itemutil;
 
-import com.nexomc.nexo.api.NexoItems;
-import dev.lone.itemsadder.api.CustomStack;
-import io.th0rgal.oraxen.api.OraxenItems;
+import io.github.milkdrinkers.itemutil.integration.*;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 import java.util.List;
-import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * An {@link ItemProvider} contains logic for accessing
  * and using item api from multiple plugins and vanilla.
+ * <p>
+ * Each provider dispatches to an {@link ItemIntegration} that is only
+ * created once the plugin is loaded, so the api classes of absent
+ * plugins are never loaded or linked.
  */
 public enum ItemProvider {
-    ORAXEN("Oraxen", List.of("oraxen")),
-    NEXO("Nexo", List.of("nexo", "oraxen")),
-    ITEMSADDER("ItemsAdder", List.of("itemsadder", "ia")),
-    VANILLA(List.of("minecraft")); // Order matters here! The order is important for iterating the enum.
+    // Lambdas (not constructor references) keep the integration classes unresolved until first use
+    ORAXEN("Oraxen", List.of("oraxen"), () -> new OraxenIntegration()),
+    NEXO("Nexo", List.of("nexo", "oraxen"), () -> new NexoIntegration()),
+    ITEMSADDER("ItemsAdder", List.of("itemsadder", "ia"), () -> new ItemsAdderIntegration()),
+    VANILLA(List.of("minecraft"), () -> new VanillaIntegration()); // Order matters here! The order is important for iterating the enum.
 
     private final String pluginName;
     private final List<String> namespaces;
+    private final Supplier<ItemIntegration> integrationFactory;
+    private volatile @Nullable ItemIntegration integration;
 
     @SuppressWarnings("unused")
-    ItemProvider(final List<String> namespaces) {
+    ItemProvider(final List<String> namespaces, final Supplier<ItemIntegration> integrationFactory) {
         this.pluginName = "";
         this.namespaces = namespaces;
+        this.integrationFactory = integrationFactory;
     }
 
     @SuppressWarnings("unused")
-    ItemProvider(final String name, final List<String> namespaces) {
+    ItemProvider(final String name, final List<String> namespaces, final Supplier<ItemIntegration> integrationFactory) {
         this.pluginName = name;
         this.namespaces = namespaces;
+        this.integrationFactory = integrationFactory;
     }
 
     /**
@@ -79,10 +87,18 @@ public enum ItemProvider {
      * Check if this {@link ItemProvider} is available/loaded.
      *
      * @return boolean
+     * @implNote Reads the {@link ProviderSnapshot} bound to the current thread if there is one, otherwise queries the plugin manager.
      */
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
     public final boolean isLoaded() {
-        return isVanilla() || Bukkit.getPluginManager().isPluginEnabled(getPluginName());
+        if (isVanilla())
+            return true;
+
+        final @Nullable ProviderSnapshot snapshot = ProviderSnapshot.bound();
+        if (snapshot != null)
+            return snapshot.isLoaded(this);
+
+        return Bukkit.getPluginManager().isPluginEnabled(getPluginName());
     }
 
     /**
@@ -95,6 +111,13 @@ public enum ItemProvider {
         if (!isLoaded())
             return false;
 
+        return hasNamespace(itemId);
+    }
+
+    /**
+     * Same as {@link #isUsingNamespace(String)}, without checking if this provider is loaded.
+     */
+    final boolean hasNamespace(final String itemId) {
         // A item with no prefix is using vanilla namespace
         if (isVanilla())
             return true;
@@ -129,27 +152,19 @@ public enum ItemProvider {
         if (!isLoaded())
             return null;
 
+        return parseLoadedItem(itemId);
+    }
+
+    /**
+     * Same as {@link #parseItem(String)}, without checking if this provider is loaded.
+     */
+    final @Nullable ItemStack parseLoadedItem(final String itemId) {
         final String cleanItemId = stripNamespace(itemId);
 
-        if (!isValidItem(itemId))
+        if (!isValidLoadedItem(itemId))
             return null;
 
-        return switch (this) {
-            case VANILLA -> {
-                try {
-                    final @Nullable Material material = Material.matchMaterial(cleanItemId);
-                    if (material == null)
-                        yield null;
-
-                    yield new ItemStack(material, 1);
-                } catch (IllegalArgumentException _ignored) {
-                    yield null;
-                }
-            }
-            case ORAXEN -> OraxenItems.getItemById(cleanItemId).build();
-            case NEXO -> Objects.requireNonNull(NexoItems.itemFromId(cleanItemId)).build();
-            case ITEMSADDER -> CustomStack.getInstance(cleanItemId).getItemStack();
-        };
+        return getIntegration().parseItem(cleanItemId);
     }
 
     /**
@@ -162,24 +177,16 @@ public enum ItemProvider {
         if (!isLoaded())
             return false;
 
-        final String cleanItemId = stripNamespace(itemId);
+        return isValidLoadedItem(itemId);
+    }
 
-        switch (this) {
-            case VANILLA -> {
-                return Material.matchMaterial(cleanItemId) != null;
-            }
-            case ORAXEN -> {
-                return OraxenItems.exists(cleanItemId);
-            }
-            case NEXO -> {
-                return NexoItems.exists(cleanItemId);
-            }
-            case ITEMSADDER -> {
-                return CustomStack.isInRegistry(cleanItemId);
-            }
-        }
+    /**
+     * Same as {@link #isValidItem(String)}, without checking if this provider is loaded.
+     */
+    final boolean isValidLoadedItem(final String itemId) {
+        final String cleanItemId = stripNamespace(itemId);
 
-        return false;
+        return getIntegration().isValidItem(cleanItemId);
     }
 
 
@@ -194,34 +201,45 @@ public enum ItemProvider {
         if (!isLoaded())
             return null;
 
-        // Iterates item providers in the order they are defined, to see if we can parse the item stack
-        switch (this) {
-            case VANILLA -> {
-                return itemStack.getType().getKey().asString();
-            }
-            case ORAXEN -> {
-                if (!OraxenItems.exists(itemStack))
-                    return null;
-
-                return "oraxen:" + OraxenItems.getIdByItem(itemStack);
-            }
-            case NEXO -> {
-                final @Nullable String stackId = NexoItems.idFromItem(itemStack);
-                if (stackId == null)
-                    return null;
+        return parseLoadedItem(itemStack);
+    }
 
-                return "nexo:" + NexoItems.idFromItem(itemStack);
-            }
-            case ITEMSADDER -> {
-                final @Nullable CustomStack stack = CustomStack.byItemStack(itemStack);
-                if (stack == null)
-                    return null;
+    /**
+     * Same as {@link #parseItem(ItemStack)}, without checking if this provider is loaded.
+     */
+    final @Nullable String parseLoadedItem(final ItemStack itemStack) {
+        return getIntegration().parseItem(itemStack);
+    }
 
-                return "itemsadder:" + stack.getId();
+    /**
+     * Gets the {@link ItemIntegration} of this provider, creating it on first use.
+     *
+     * @return the item integration
+     * @apiNote Only call this while the provider {@link #isLoaded()}, otherwise the plugin api classes may fail to link.
+     * @implNote Kept package-private, so the integrations are only reachable through the methods of this provider.
+     */
+    final @NotNull ItemIntegration getIntegration() {
+        @Nullable ItemIntegration current = integration;
+        if (current == null) {
+            synchronized (this) {
+                current = integration;
+                if (current == null) {
+                    current = integrationFactory.get();
+                    integration = current;
+                }
             }
         }
+        return current;
+    }
 
-        return null;
+    /**
+     * Replaces the integration of this provider, so tests can resolve items without the plugin api.
+     *
+     * @param integration the integration to use, or null to create the default integration on first use
+     */
+    @VisibleForTesting
+    final synchronized void setIntegration(final @Nullable ItemIntegration integration) {
+        this.integration = integration;
     }
 
     private boolean isVanilla() {
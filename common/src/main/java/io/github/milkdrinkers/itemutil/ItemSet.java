@@ -0,0 +1,236 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * An {@link ItemSet} matches item stacks against many materials and item ids at once,
+ * so an inventory only has to be scanned once for the whole set.
+ * <p>
+ * Vanilla membership is a {@link BitSet} lookup by {@link Material} ordinal. Custom item ids
+ * are resolved when the set is built, and their base materials are added to a second bitset, so
+ * only item stacks of a possibly matching material are passed to the custom item providers.
+ *
+ * <pre>{@code
+ * ItemSet fuel = ItemSet.builder()
+ *     .tag(Tag.LOGS)
+ *     .materials(Material.COAL, Material.CHARCOAL)
+ *     .items("nexo:magic_coal")
+ *     .build();
+ * int amount = InventoryUtils.countItems(player, fuel);
+ * }</pre>
+ *
+ * @see ItemMatcher
+ */
+@SuppressWarnings("unused")
+public final class ItemSet implements Predicate<ItemStack> {
+    private final BitSet materials;
+    private final BitSet customMaterials;
+    private final Map<ItemProvider, Set<String>> customKeys;
+    private final List<ItemProvider> customProviders;
+
+    private ItemSet(final BitSet materials, final BitSet customMaterials, final Map<ItemProvider, Set<String>> customKeys, final List<ItemProvider> customProviders) {
+        this.materials = materials;
+        this.customMaterials = customMaterials;
+        this.customKeys = customKeys;
+        this.customProviders = customProviders;
+    }
+
+    /**
+     * Creates a new {@link Builder} for an item set.
+     *
+     * @return a builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates an item set of the item ids, using the currently loaded item providers.
+     *
+     * @param itemIds the item ids (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @return an item set
+     */
+    public static @NotNull ItemSet of(final @NotNull String... itemIds) {
+        return builder().items(itemIds).build();
+    }
+
+    /**
+     * Check if the material is a vanilla member of this set.
+     *
+     * @param material the material
+     * @return boolean
+     */
+    public boolean contains(final @NotNull Material material) {
+        return materials.get(material.ordinal());
+    }
+
+    /**
+     * Check if the item stack is a member of this set.
+     *
+     * @param itemStack the item stack
+     * @return boolean
+     */
+    @Override
+    public boolean test(final @Nullable ItemStack itemStack) {
+        if (itemStack == null)
+            return false;
+
+        final int ordinal = itemStack.getType().ordinal();
+        final boolean vanilla = materials.get(ordinal);
+        if (!vanilla && !customMaterials.get(ordinal))
+            return false;
+
+        // A custom item is only a member if its id is, even if its material is a vanilla member
+        for (final ItemProvider provider : customProviders) {
+            final @Nullable String parsedItemId = provider.parseLoadedItem(itemStack);
+            if (parsedItemId == null)
+                continue;
+
+            final @Nullable Set<String> keys = customKeys.get(provider);
+            return keys != null && keys.contains(provider.stripNamespace(parsedItemId));
+        }
+        return vanilla;
+    }
+
+    /**
+     * A builder for {@link ItemSet}'s.
+     */
+    public static final class Builder {
+        private final Set<Material> materials = EnumSet.noneOf(Material.class);
+        private final Set<String> itemIds = new LinkedHashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add all materials of the tag.
+         *
+         * @param tag the material tag, like {@link Tag#LOGS}
+         * @return this builder
+         */
+        public @NotNull Builder tag(final @NotNull Tag<Material> tag) {
+            materials.addAll(tag.getValues());
+            return this;
+        }
+
+        /**
+         * Add the materials.
+         *
+         * @param materials the materials
+         * @return this builder
+         */
+        public @NotNull Builder materials(final @NotNull Material... materials) {
+            return materials(Arrays.asList(materials));
+        }
+
+        /**
+         * Add the materials.
+         *
+         * @param materials the materials
+         * @return this builder
+         */
+        public @NotNull Builder materials(final @NotNull Collection<Material> materials) {
+            this.materials.addAll(materials);
+            return this;
+        }
+
+        /**
+         * Add the item ids.
+         *
+         * @param itemIds the item ids (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+         * @return this builder
+         */
+        public @NotNull Builder items(final @NotNull String... itemIds) {
+            return items(Arrays.asList(itemIds));
+        }
+
+        /**
+         * Add the item ids.
+         *
+         * @param itemIds the item ids (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+         * @return this builder
+         */
+        public @NotNull Builder items(final @NotNull Collection<String> itemIds) {
+            this.itemIds.addAll(itemIds);
+            return this;
+        }
+
+        /**
+         * Builds the item set, using the currently loaded item providers.
+         *
+         * @return an item set
+         */
+        public @NotNull ItemSet build() {
+            return build(ItemUtils.snapshotProviders());
+        }
+
+        /**
+         * Builds the item set, using the item providers of the snapshot.
+         *
+         * @param providers the provider snapshot
+         * @return an item set
+         * @apiNote Custom item ids that do not exist when the set is built never match.
+         */
+        public @NotNull ItemSet build(final @NotNull ProviderSnapshot providers) {
+            final BitSet materialBits = new BitSet(Material.values().length);
+            final BitSet customMaterialBits = new BitSet(Material.values().length);
+            final Map<ItemProvider, Set<String>> customKeys = new EnumMap<>(ItemProvider.class);
+
+            for (final Material material : materials)
+                materialBits.set(material.ordinal());
+
+            for (final String itemId : itemIds) {
+                final ItemProvider provider = providers.getProvider(itemId);
+                final String key = provider.stripNamespace(itemId);
+                if (provider == ItemProvider.VANILLA) {
+                    final @Nullable Material material = Material.matchMaterial(key);
+                    if (material != null)
+                        materialBits.set(material.ordinal());
+                    continue;
+                }
+
+                final @Nullable ItemStack item = provider.parseLoadedItem(itemId);
+                if (item == null)
+                    continue;
+
+                customMaterialBits.set(item.getType().ordinal());
+                customKeys.computeIfAbsent(provider, p -> new HashSet<>()).add(key);
+            }
+
+            final List<ItemProvider> customProviders = providers.getProviders()
+                .stream()
+                .filter(p -> p != ItemProvider.VANILLA)
+                .toList();
+
+            return new ItemSet(materialBits, customMaterialBits, customKeys, customProviders);
+        }
+    }
+}
\ No newline at end of file
@@ -52,6 +52,15 @@ public final class ItemUtils {
         return providers;
     }
 
+    /**
+     * Captures the currently loaded {@link ItemProvider}'s into an immutable snapshot, that can be shared between threads.
+     *
+     * @return a provider snapshot
+     */
+    public static @NotNull ProviderSnapshot snapshotProviders() {
+        return ProviderSnapshot.capture();
+    }
+
     /**
      * Gets the item provider from item namespace or fallbacks to {@link ItemProvider#VANILLA}.
      *
@@ -121,8 +130,13 @@ public final class ItemUtils {
      */
     @SuppressWarnings("unused")
     public static @NotNull String parse(final @NotNull ItemStack itemStack) {
-        final ItemProvider provider = getProvider(itemStack);
-        return Objects.requireNonNull(provider.parseItem(itemStack));
+        // Resolve the item stack once, instead of finding the provider before parsing with it
+        for (final ItemProvider provider : getProviders()) {
+            final @Nullable String itemId = provider.parseItem(itemStack);
+            if (itemId != null)
+                return itemId;
+        }
+        return Objects.requireNonNull(ItemProvider.VANILLA.parseItem(itemStack));
     }
 
     /**
@@ -131,10 +145,15 @@ public final class ItemUtils {
      * @param itemId the item id
      * @return boolean
      * @apiNote returns {@link ItemProvider#isValidItem(String)}
+     * @implNote Custom item ids are looked up in the {@link ItemCatalogue} instead, once it has indexed their provider.
      */
     @SuppressWarnings("unused")
     public static boolean exists(final @NotNull String itemId) {
         final ItemProvider provider = getProvider(itemId);
+        final ItemCatalogue catalogue = ItemCatalogue.getInstance();
+        if (catalogue.covers(provider, itemId))
+            return catalogue.contains(provider, itemId);
+
         return provider.isValidItem(itemId);
     }
 
@@ -146,11 +165,16 @@ public final class ItemUtils {
      * @return boolean
      */
     public static boolean match(final @NotNull ItemStack itemStack, final @NotNull String itemId2) {
-        final String itemId1 = parse(itemStack);
-        final ItemProvider provider1 = getProvider(itemStack);
         final ItemProvider provider2 = getProvider(itemId2);
 
-        return provider1.equals(provider2) && stripNamespace(itemId1).equals(stripNamespace(itemId2));
+        for (final ItemProvider provider1 : getProviders()) {
+            final @Nullable String itemId1 = provider1.parseItem(itemStack);
+            if (itemId1 == null)
+                continue;
+
+            return provider1.equals(provider2) && provider1.stripNamespace(itemId1).equals(provider1.stripNamespace(itemId2));
+        }
+        return false;
     }
 
     /**
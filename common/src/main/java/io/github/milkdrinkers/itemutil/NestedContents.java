@@ -0,0 +1,152 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.bukkit.Material;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+import org.bukkit.inventory.meta.BundleMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the contents of shulker boxes and bundles, caching the result per container fingerprint.
+ *
+ * @implNote Entries are keyed by the {@link ItemMeta} of the container, which the server compares by its data. Copying and hashing
+ * the meta is cheaper than decoding it, as a hit skips building the block state and the inventory holding the nested item stacks.
+ * So the same boxes are decoded once, even though the server returns new item stack mirrors on every {@code getContents()} call.
+ */
+final class NestedContents {
+    /**
+     * The maximum depth of containers inside containers, guarding against item stacks built by plugins that nest endlessly.
+     */
+    private static final int MAX_DEPTH = 8;
+    private static final ItemStack[] EMPTY = new ItemStack[0];
+    private static final Set<Material> SHULKER_BOXES = EnumSet.copyOf(Arrays.stream(Material.values())
+        .filter(material -> !material.isLegacy() && material.name().endsWith("SHULKER_BOX"))
+        .toList()
+    );
+    private static final BoundedCache<ItemMeta, ItemStack[]> cache = new BoundedCache<>(512);
+
+    private NestedContents() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Passes the item stack to the visitor, followed by every item stack nested inside it, depth first.
+     *
+     * @param item    the item stack
+     * @param visitor the visitor, returning false to stop visiting
+     * @return false if the visitor stopped early
+     * @apiNote Nested item stacks are shared with the cache and must not be modified.
+     */
+    static boolean visit(final @NotNull ItemStack item, final @NotNull Visitor visitor) {
+        return visit(item, visitor, 1, 0);
+    }
+
+    private static boolean visit(final ItemStack item, final Visitor visitor, final int multiplier, final int depth) {
+        if (!visitor.visit(item, multiplier))
+            return false;
+
+        if (depth >= MAX_DEPTH || !isContainer(item))
+            return true;
+
+        // Every item inside the container exists once per container in the stack
+        final int nestedMultiplier = multiply(multiplier, item.getAmount());
+        for (final @Nullable ItemStack nested : get(item)) {
+            if (nested != null && nested.getType() != Material.AIR && !visit(nested, visitor, nestedMultiplier, depth + 1))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Multiplies the amounts, saturating at {@link Integer#MAX_VALUE} instead of overflowing.
+     *
+     * @param amount     the amount
+     * @param multiplier the multiplier
+     * @return the product
+     */
+    static int multiply(final int amount, final int multiplier) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) amount * multiplier);
+    }
+
+    /**
+     * Check whether the item stack may hold other item stacks, without reading its meta.
+     *
+     * @param item the item stack
+     * @return boolean
+     */
+    static boolean isContainer(final @NotNull ItemStack item) {
+        final Material type = item.getType();
+        return type == Material.BUNDLE || SHULKER_BOXES.contains(type);
+    }
+
+    /**
+     * Gets the item stacks directly inside the container item stack.
+     *
+     * @param item the item stack
+     * @return the nested item stacks, may contain null
+     */
+    static @Nullable ItemStack @NotNull [] get(final @NotNull ItemStack item) {
+        if (!isContainer(item) || !item.hasItemMeta())
+            return EMPTY;
+
+        // The meta is a copy, so it can not change while it is a cache key
+        final ItemStack[] contents = cache.get(item.getItemMeta(), NestedContents::decode);
+        return contents == null ? EMPTY : contents;
+    }
+
+    private static @Nullable ItemStack @NotNull [] decode(final @NotNull ItemMeta meta) {
+        if (meta instanceof BundleMeta bundleMeta)
+            return bundleMeta.hasItems() ? bundleMeta.getItems().toArray(ItemStack[]::new) : EMPTY;
+
+        if (meta instanceof BlockStateMeta blockStateMeta && blockStateMeta.hasBlockState()) {
+            final BlockState state = blockStateMeta.getBlockState();
+            if (state instanceof Container container)
+                return container.getInventory().getContents();
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Visits the item stacks of an inventory and the item stacks nested inside them.
+     */
+    @FunctionalInterface
+    interface Visitor {
+        /**
+         * Visits the item stack.
+         *
+         * @param item       the item stack
+         * @param multiplier the combined amount of the containers holding the item stack, {@code 1} for item stacks in inventory slots
+         * @return false to stop visiting
+         */
+        boolean visit(@NotNull ItemStack item, int multiplier);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,220 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ProviderSnapshot} is an immutable view of the {@link ItemProvider}'s
+ * that were loaded when it was captured. It resolves items the same way
+ * {@link ItemUtils} does, but never queries the plugin manager, so a single
+ * snapshot can be read concurrently from any thread.
+ * <p>
+ * A snapshot can also be bound to the current thread with {@link #runBound(Runnable)}.
+ * While bound, {@link ItemProvider#isLoaded()}, and with it every method of
+ * {@link ItemUtils} and {@link InventoryUtils}, reads the snapshot instead of the plugin manager.
+ *
+ * <pre>{@code
+ * ProviderSnapshot providers = ItemUtils.snapshotProviders();
+ * int amount = providers.supplyBound(() -> InventoryUtils.countItems(holder, "nexo:ruby"));
+ * }</pre>
+ *
+ * @see ItemUtils#snapshotProviders()
+ */
+@SuppressWarnings("unused")
+public final class ProviderSnapshot {
+    private static final ThreadLocal<ProviderSnapshot> BOUND = new ThreadLocal<>();
+
+    private final List<ItemProvider> providers;
+
+    private ProviderSnapshot(final List<ItemProvider> providers) {
+        this.providers = providers;
+    }
+
+    /**
+     * Captures the currently loaded item providers.
+     *
+     * @return a new snapshot
+     */
+    static @NotNull ProviderSnapshot capture() {
+        return new ProviderSnapshot(ItemUtils.getProviders()
+            .stream()
+            .filter(ItemProvider::isLoaded)
+            .toList()
+        );
+    }
+
+    /**
+     * Gets the snapshot bound to the current thread.
+     *
+     * @return the bound snapshot, or null if none is bound
+     */
+    static @Nullable ProviderSnapshot bound() {
+        return BOUND.get();
+    }
+
+    /**
+     * Runs the task with this snapshot bound to the current thread, restoring the previously bound snapshot afterwards.
+     *
+     * @param task the task
+     */
+    public void runBound(final @NotNull Runnable task) {
+        supplyBound(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the task with this snapshot bound to the current thread, restoring the previously bound snapshot afterwards.
+     *
+     * @param task the task
+     * @param <T>  the result type
+     * @return the result of the task
+     */
+    public <T> T supplyBound(final @NotNull Supplier<? extends T> task) {
+        final @Nullable ProviderSnapshot previous = BOUND.get();
+        BOUND.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                BOUND.remove();
+            } else {
+                BOUND.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Gets the item providers that were loaded when this snapshot was captured, in iteration order.
+     *
+     * @return item providers
+     */
+    public @NotNull List<ItemProvider> getProviders() {
+        return providers;
+    }
+
+    /**
+     * Creates a copy of this snapshot without the item providers of the plugin.
+     *
+     * @param pluginName the plugin name
+     * @return a new snapshot
+     * @see ItemProvider#getPluginName()
+     */
+    public @NotNull ProviderSnapshot withoutPlugin(final @NotNull String pluginName) {
+        return new ProviderSnapshot(providers
+            .stream()
+            .filter(provider -> !provider.getPluginName().equals(pluginName))
+            .toList()
+        );
+    }
+
+    /**
+     * Check if the item provider was loaded when this snapshot was captured.
+     *
+     * @param provider the item provider
+     * @return boolean
+     */
+    public boolean isLoaded(final @NotNull ItemProvider provider) {
+        return providers.contains(provider);
+    }
+
+    /**
+     * Gets the item provider from item namespace or fallbacks to {@link ItemProvider#VANILLA}.
+     *
+     * @param itemId the item id
+     * @return an item provider
+     * @see ItemUtils#getProvider(String)
+     */
+    public @NotNull ItemProvider getProvider(final @NotNull String itemId) {
+        for (final ItemProvider provider : providers) {
+            if (provider.hasNamespace(itemId))
+                return provider;
+        }
+        return ItemProvider.VANILLA;
+    }
+
+    /**
+     * Gets the item provider from item stack or fallbacks to {@link ItemProvider#VANILLA}.
+     *
+     * @param itemStack the item stack
+     * @return an item provider
+     * @see ItemUtils#getProvider(ItemStack)
+     */
+    public @NotNull ItemProvider getProvider(final @NotNull ItemStack itemStack) {
+        for (final ItemProvider provider : providers) {
+            if (provider.parseLoadedItem(itemStack) != null)
+                return provider;
+        }
+        return ItemProvider.VANILLA;
+    }
+
+    /**
+     * Creates an item stack from the item id.
+     *
+     * @param itemId the item id
+     * @return item stack or null
+     * @see ItemUtils#parse(String)
+     */
+    public @Nullable ItemStack parse(final @NotNull String itemId) {
+        return getProvider(itemId).parseLoadedItem(itemId);
+    }
+
+    /**
+     * Gets an item id from the item stack.
+     *
+     * @param itemStack the item stack
+     * @return item id
+     * @see ItemUtils#parse(ItemStack)
+     */
+    public @NotNull String parse(final @NotNull ItemStack itemStack) {
+        for (final ItemProvider provider : providers) {
+            final @Nullable String itemId = provider.parseLoadedItem(itemStack);
+            if (itemId != null)
+                return itemId;
+        }
+        return Objects.requireNonNull(ItemProvider.VANILLA.parseLoadedItem(itemStack));
+    }
+
+    /**
+     * Check if an item/material exists with this item id.
+     *
+     * @param itemId the item id
+     * @return boolean
+     * @see ItemUtils#exists(String)
+     */
+    public boolean exists(final @NotNull String itemId) {
+        final ItemProvider provider = getProvider(itemId);
+        final ItemCatalogue catalogue = ItemCatalogue.getInstance();
+        if (catalogue.covers(provider, itemId))
+            return catalogue.contains(provider, itemId);
+
+        return provider.isValidLoadedItem(itemId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link SlotView} scopes {@link InventoryUtils} operations to a set of slots,
+ * so checks touching a handful of slots only read those slots.
+ * <pre>{@code
+ * boolean hasAmmo = InventoryUtils.contains(player, SlotView.HOTBAR, ItemMatcher.exact("nexo:bullet"), 1);
+ * int armorPieces = InventoryUtils.getOccupiedSlots(player, SlotView.ARMOR);
+ * }</pre>
+ *
+ * @apiNote Slots outside the inventory are skipped, so the player views can be used with any inventory.
+ * @implNote Views other than {@link #ALL} read their slots with {@link Inventory#getItem(int)}, instead of copying the contents of the whole inventory.
+ */
+@SuppressWarnings("unused")
+public final class SlotView {
+    /**
+     * Every slot of the inventory.
+     */
+    public static final SlotView ALL = new SlotView(null);
+    /**
+     * The 9 hotbar slots of a player inventory.
+     */
+    public static final SlotView HOTBAR = range(0, 9);
+    /**
+     * The 27 storage slots of a player inventory, above the hotbar.
+     */
+    public static final SlotView STORAGE = range(9, 36);
+    /**
+     * The hotbar and storage slots of a player inventory.
+     */
+    public static final SlotView MAIN = range(0, 36);
+    /**
+     * The 4 armor slots of a player inventory, from boots to helmet.
+     */
+    public static final SlotView ARMOR = range(36, 40);
+    /**
+     * The offhand slot of a player inventory.
+     */
+    public static final SlotView OFFHAND = of(40);
+
+    private final int @Nullable [] slots;
+
+    private SlotView(final int @Nullable [] slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Creates a view of the slots.
+     *
+     * @param slots the slot indices
+     * @return a slot view
+     * @throws IllegalArgumentException if a slot is negative
+     */
+    public static @NotNull SlotView of(final int @NotNull ... slots) {
+        return new SlotView(normalize(Arrays.stream(slots)));
+    }
+
+    /**
+     * Creates a view of a range of slots.
+     *
+     * @param fromInclusive the first slot index
+     * @param toExclusive   the slot index after the last slot
+     * @return a slot view
+     * @throws IllegalArgumentException if a slot is negative
+     */
+    public static @NotNull SlotView range(final int fromInclusive, final int toExclusive) {
+        return new SlotView(normalize(IntStream.range(fromInclusive, toExclusive)));
+    }
+
+    /**
+     * Creates a view of the slot currently held in the main hand.
+     *
+     * @param inventory the player inventory
+     * @return a slot view
+     * @apiNote The view does not follow the held slot when the player scrolls.
+     */
+    public static @NotNull SlotView mainHand(final @NotNull PlayerInventory inventory) {
+        return of(inventory.getHeldItemSlot());
+    }
+
+    /**
+     * Creates a view of the slots of this view and the other view.
+     *
+     * @param other the other view
+     * @return a slot view
+     */
+    public @NotNull SlotView union(final @NotNull SlotView other) {
+        if (slots == null || other.slots == null)
+            return ALL;
+
+        return new SlotView(normalize(IntStream.concat(Arrays.stream(slots), Arrays.stream(other.slots))));
+    }
+
+    /**
+     * Check whether the slot is part of this view.
+     *
+     * @param slot the slot index
+     * @return boolean
+     */
+    public boolean contains(final int slot) {
+        return slots == null ? slot >= 0 : Arrays.binarySearch(slots, slot) >= 0;
+    }
+
+    /**
+     * Gets the slot indices of this view that exist in the inventory, in ascending order.
+     *
+     * @param inventory the inventory
+     * @return slot indices
+     */
+    public @NotNull IntStream slots(final @NotNull Inventory inventory) {
+        final int size = inventory.getSize();
+        if (slots == null)
+            return IntStream.range(0, size);
+
+        return Arrays.stream(slots).takeWhile(slot -> slot < size);
+    }
+
+    /**
+     * Passes the slots of this view that exist in the inventory to the visitor in ascending order, including empty slots.
+     *
+     * @param inventory the inventory
+     * @param visitor   the visitor
+     * @return false if the visitor stopped early
+     */
+    boolean visit(final @NotNull Inventory inventory, final @NotNull SlotVisitor visitor) {
+        if (slots == null) {
+            // Copying the contents once is cheaper than reading every slot on its own
+            final ItemStack[] contents = inventory.getContents();
+            for (int slot = 0; slot < contents.length; slot++) {
+                if (!visitor.visit(slot, contents[slot]))
+                    return false;
+            }
+            return true;
+        }
+
+        final int size = inventory.getSize();
+        for (final int slot : slots) {
+            if (slot >= size)
+                break;
+
+            if (!visitor.visit(slot, inventory.getItem(slot)))
+                return false;
+        }
+        return true;
+    }
+
+    private static int[] normalize(final IntStream slots) {
+        final int[] normalized = slots.sorted().distinct().toArray();
+        if (normalized.length > 0 && normalized[0] < 0)
+            throw new IllegalArgumentException("Slot cannot be negative");
+
+        return normalized;
+    }
+
+    @Override
+    public String toString() {
+        return slots == null ? "SlotView[all]" : "SlotView" + Arrays.toString(slots);
+    }
+
+    /**
+     * Visits a slot of a {@link SlotView}.
+     */
+    @FunctionalInterface
+    interface SlotVisitor {
+        /**
+         * Visits the slot.
+         *
+         * @param slot the slot index
+         * @param item the item stack in the slot, or null if empty
+         * @return false to stop visiting
+         */
+        boolean visit(int slot, @Nullable ItemStack item);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,467 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.codec;
+
+import io.github.milkdrinkers.itemutil.ItemProvider;
+import io.github.milkdrinkers.itemutil.ItemUtils;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.*;
+
+/**
+ * The {@link ItemCodec} class provides a compact binary format for storing
+ * item references and inventory contents.
+ * <p>
+ * A buffer holds a single dictionary of namespaces and item ids followed
+ * by any amount of records. Every record stores its entries as
+ * {@code (slot, dictionary index, amount)} variable length integers,
+ * so an item id is only written, and only resolved, once per buffer.
+ *
+ * <pre>{@code
+ * ItemCodec.Encoder encoder = ItemCodec.encoder();
+ * encoder.add(player.getInventory().getContents());
+ * encoder.write(channel);
+ *
+ * ItemCodec.Decoder decoder = ItemCodec.read(channel);
+ * ItemStack[] contents = decoder.getContents(0);
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class ItemCodec {
+    private static final int MAGIC = 0x49544D43; // "ITMC"
+    private static final byte VERSION = 1;
+    private static final int READ_CHUNK_SIZE = 8192;
+
+    private ItemCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Creates a new empty {@link Encoder}.
+     *
+     * @return an encoder
+     */
+    public static @NotNull Encoder encoder() {
+        return new Encoder();
+    }
+
+    /**
+     * Encodes the inventory contents into a buffer containing a single record.
+     *
+     * @param contents the inventory contents
+     * @return a buffer ready to be read
+     */
+    public static @NotNull ByteBuffer encode(final @Nullable ItemStack @NotNull [] contents) {
+        return encoder().add(contents).encode();
+    }
+
+    /**
+     * Creates a {@link Decoder} reading the remaining bytes of the buffer.
+     *
+     * @param buffer the buffer
+     * @return a decoder
+     * @throws IllegalArgumentException if the buffer does not contain valid encoded data
+     */
+    public static @NotNull Decoder decode(final @NotNull ByteBuffer buffer) {
+        return new Decoder(buffer);
+    }
+
+    /**
+     * Reads the channel until the end of stream and creates a {@link Decoder} for the read bytes.
+     *
+     * @param channel the channel
+     * @return a decoder
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the channel does not contain valid encoded data
+     * @implNote File channels are memory mapped instead of being copied to the heap. Only the encoded data is read
+     * from a file channel and its position is advanced past it, so buffers written one after another can be read in turn.
+     */
+    public static @NotNull Decoder read(final @NotNull ReadableByteChannel channel) throws IOException {
+        if (channel instanceof FileChannel fileChannel) {
+            final long position = fileChannel.position();
+            final ByteBuffer mapped = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, fileChannel.size() - position);
+            final Decoder decoder = decode(mapped);
+            fileChannel.position(position + mapped.position());
+            return decoder;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        while (channel.read(buffer) != -1) {
+            if (!buffer.hasRemaining()) {
+                final ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2);
+                grown.put(buffer.flip());
+                buffer = grown;
+            }
+        }
+        return decode(buffer.flip());
+    }
+
+    /**
+     * Splits the item id into its namespace and key. Item ids without a namespace use the vanilla namespace.
+     *
+     * @param itemId the item id
+     * @return an array containing the namespace and the key
+     */
+    static @NotNull String[] split(final @NotNull String itemId) {
+        final int separator = itemId.indexOf(':');
+        if (separator == -1)
+            return new String[]{ItemProvider.VANILLA.getNamespaces().get(0), itemId};
+
+        return new String[]{itemId.substring(0, separator), itemId.substring(separator + 1)};
+    }
+
+    /**
+     * An {@link Encoder} collects records and writes them, sharing a single id dictionary.
+     */
+    public static final class Encoder {
+        private final Map<String, Integer> namespaces = new LinkedHashMap<>();
+        private final Map<String, Integer> itemIds = new LinkedHashMap<>();
+        private final List<int[]> dictionary = new ArrayList<>(); // namespace index and key length pairs
+        private final List<String> keys = new ArrayList<>();
+        private final List<EncodedRecord> records = new ArrayList<>();
+
+        private Encoder() {
+        }
+
+        /**
+         * Adds a record containing the inventory contents. Empty slots are skipped.
+         *
+         * @param contents the inventory contents
+         * @return this encoder
+         * @see ItemUtils#parse(ItemStack)
+         */
+        public @NotNull Encoder add(final @Nullable ItemStack @NotNull [] contents) {
+            final List<ItemReference> references = new ArrayList<>();
+            for (int slot = 0; slot < contents.length; slot++) {
+                final @Nullable ItemStack item = contents[slot];
+                if (item == null || item.getType() == Material.AIR)
+                    continue;
+
+                references.add(new ItemReference(slot, ItemUtils.parse(item), item.getAmount()));
+            }
+            return add(contents.length, references);
+        }
+
+        /**
+         * Adds a record containing the item references.
+         *
+         * @param size       the amount of slots in the record
+         * @param references the item references
+         * @return this encoder
+         * @throws IllegalArgumentException if a reference slot is outside the record size
+         */
+        public @NotNull Encoder add(final int size, final @NotNull Collection<ItemReference> references) {
+            final int[] slots = new int[references.size()];
+            final int[] indices = new int[references.size()];
+            final int[] amounts = new int[references.size()];
+
+            int i = 0;
+            for (final ItemReference reference : references) {
+                if (reference.slot() >= size)
+                    throw new IllegalArgumentException("Slot %d is outside of the record size %d".formatted(reference.slot(), size));
+
+                slots[i] = reference.slot();
+                indices[i] = intern(reference.itemId());
+                amounts[i] = reference.amount();
+                i++;
+            }
+
+            records.add(new EncodedRecord(size, slots, indices, amounts));
+            return this;
+        }
+
+        /**
+         * Gets the amount of records added to this encoder.
+         *
+         * @return record count
+         */
+        public int getRecordCount() {
+            return records.size();
+        }
+
+        /**
+         * Encodes all added records into a new buffer.
+         *
+         * @return a buffer ready to be read
+         */
+        public @NotNull ByteBuffer encode() {
+            final ByteBuffer buffer = ByteBuffer.allocate(computeSize());
+            encode(buffer);
+            return buffer.flip();
+        }
+
+        /**
+         * Encodes all added records into the buffer.
+         *
+         * @param buffer the buffer
+         * @throws java.nio.BufferOverflowException if the buffer has less than {@link #computeSize()} bytes remaining
+         */
+        public void encode(final @NotNull ByteBuffer buffer) {
+            buffer.putInt(MAGIC);
+            buffer.put(VERSION);
+
+            VarInts.write(buffer, namespaces.size());
+            for (final String namespace : namespaces.keySet())
+                VarInts.write(buffer, namespace);
+
+            VarInts.write(buffer, keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                VarInts.write(buffer, dictionary.get(i)[0]);
+                VarInts.write(buffer, keys.get(i));
+            }
+
+            VarInts.write(buffer, records.size());
+            for (final EncodedRecord encodedRecord : records) {
+                VarInts.write(buffer, encodedRecord.size());
+                VarInts.write(buffer, encodedRecord.slots().length);
+                for (int i = 0; i < encodedRecord.slots().length; i++) {
+                    VarInts.write(buffer, encodedRecord.slots()[i]);
+                    VarInts.write(buffer, encodedRecord.indices()[i]);
+                    VarInts.write(buffer, encodedRecord.amounts()[i]);
+                }
+            }
+        }
+
+        /**
+         * Encodes all added records and writes them to the channel.
+         *
+         * @param channel the channel
+         * @throws IOException if an I/O error occurs
+         */
+        public void write(final @NotNull WritableByteChannel channel) throws IOException {
+            final ByteBuffer buffer = encode();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        }
+
+        /**
+         * Computes the exact amount of bytes required to encode all added records.
+         *
+         * @return the amount of bytes
+         */
+        public int computeSize() {
+            int size = Integer.BYTES + Byte.BYTES;
+
+            size += VarInts.size(namespaces.size());
+            for (final String namespace : namespaces.keySet())
+                size += VarInts.size(namespace);
+
+            size += VarInts.size(keys.size());
+            for (int i = 0; i < keys.size(); i++)
+                size += VarInts.size(dictionary.get(i)[0]) + dictionary.get(i)[1];
+
+            size += VarInts.size(records.size());
+            for (final EncodedRecord encodedRecord : records) {
+                size += VarInts.size(encodedRecord.size()) + VarInts.size(encodedRecord.slots().length);
+                for (int i = 0; i < encodedRecord.slots().length; i++) {
+                    size += VarInts.size(encodedRecord.slots()[i]);
+                    size += VarInts.size(encodedRecord.indices()[i]);
+                    size += VarInts.size(encodedRecord.amounts()[i]);
+                }
+            }
+            return size;
+        }
+
+        private int intern(final String itemId) {
+            final @Nullable Integer existing = itemIds.get(itemId);
+            if (existing != null)
+                return existing;
+
+            final String[] parts = split(itemId);
+            final int namespaceIndex = namespaces.computeIfAbsent(parts[0], namespace -> namespaces.size());
+            final int index = keys.size();
+            keys.add(parts[1]);
+            dictionary.add(new int[]{namespaceIndex, VarInts.size(parts[1])});
+            itemIds.put(itemId, index);
+            return index;
+        }
+    }
+
+    /**
+     * A {@link Decoder} gives access to the records of an encoded buffer. Each
+     * distinct item id is resolved at most once, the first time it is needed.
+     */
+    public static final class Decoder {
+        private final String[] itemIds;
+        private final List<EncodedRecord> records;
+        private final ItemStack[] prototypes;
+        private final boolean[] resolved;
+
+        private Decoder(final ByteBuffer buffer) {
+            try {
+                if (buffer.getInt() != MAGIC)
+                    throw new IllegalArgumentException("Buffer does not contain encoded items");
+
+                final byte version = buffer.get();
+                if (version != VERSION)
+                    throw new IllegalArgumentException("Unsupported item codec version: " + version);
+
+                final String[] namespaces = new String[readCount(buffer)];
+                for (int i = 0; i < namespaces.length; i++)
+                    namespaces[i] = VarInts.readString(buffer);
+
+                this.itemIds = new String[readCount(buffer)];
+                for (int i = 0; i < itemIds.length; i++) {
+                    final String namespace = namespaces[readUnsigned(buffer)];
+                    itemIds[i] = namespace + ":" + VarInts.readString(buffer);
+                }
+
+                final int recordCount = readCount(buffer);
+                this.records = new ArrayList<>(recordCount);
+                for (int r = 0; r < recordCount; r++) {
+                    final int size = readUnsigned(buffer);
+                    final int entryCount = readCount(buffer);
+                    final int[] slots = new int[entryCount];
+                    final int[] indices = new int[entryCount];
+                    final int[] amounts = new int[entryCount];
+                    for (int i = 0; i < entryCount; i++) {
+                        slots[i] = readUnsigned(buffer);
+                        indices[i] = readUnsigned(buffer);
+                        amounts[i] = readUnsigned(buffer);
+                        if (slots[i] >= size || indices[i] >= itemIds.length)
+                            throw new IllegalArgumentException("Record entry is out of bounds");
+                    }
+                    records.add(new EncodedRecord(size, slots, indices, amounts));
+                }
+            } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Buffer contains truncated or corrupt encoded items", e);
+            }
+
+            this.prototypes = new ItemStack[itemIds.length];
+            this.resolved = new boolean[itemIds.length];
+        }
+
+        /**
+         * Reads a variable length integer that must not be negative, such as a slot, an index or an amount.
+         *
+         * @param buffer the buffer
+         * @return the value
+         * @throws IllegalArgumentException if the value is negative
+         */
+        private static int readUnsigned(final ByteBuffer buffer) {
+            final int value = VarInts.readInt(buffer);
+            if (value < 0)
+                throw new IllegalArgumentException("Buffer contains corrupt encoded items, negative value " + value);
+
+            return value;
+        }
+
+        /**
+         * Reads an element count. Every element takes at least one byte, so a count larger than the
+         * remaining bytes can only come from corrupt data and is rejected before anything is allocated.
+         *
+         * @param buffer the buffer
+         * @return the count
+         * @throws IllegalArgumentException if the count is negative or exceeds the remaining bytes
+         */
+        private static int readCount(final ByteBuffer buffer) {
+            final int count = readUnsigned(buffer);
+            if (count > buffer.remaining())
+                throw new IllegalArgumentException("Buffer contains truncated or corrupt encoded items, count %d exceeds %d remaining bytes".formatted(count, buffer.remaining()));
+
+            return count;
+        }
+
+        /**
+         * Gets the amount of records in this buffer.
+         *
+         * @return record count
+         */
+        public int getRecordCount() {
+            return records.size();
+        }
+
+        /**
+         * Gets all distinct item ids in this buffer.
+         *
+         * @return list of item ids
+         */
+        public @NotNull List<String> getItemIds() {
+            return List.of(itemIds);
+        }
+
+        /**
+         * Gets the amount of slots in the record.
+         *
+         * @param record the record index
+         * @return the amount of slots
+         */
+        public int getSize(final int record) {
+            return records.get(record).size();
+        }
+
+        /**
+         * Gets the item references stored in the record, without resolving any item ids.
+         *
+         * @param record the record index
+         * @return list of item references
+         */
+        public @NotNull List<ItemReference> getReferences(final int record) {
+            final EncodedRecord encodedRecord = records.get(record);
+            final List<ItemReference> references = new ArrayList<>(encodedRecord.slots().length);
+            for (int i = 0; i < encodedRecord.slots().length; i++)
+                references.add(new ItemReference(encodedRecord.slots()[i], itemIds[encodedRecord.indices()[i]], encodedRecord.amounts()[i]));
+            return references;
+        }
+
+        /**
+         * Gets the record as inventory contents. Slots with item ids that can no longer be parsed are left empty.
+         *
+         * @param record the record index
+         * @return an array of item stacks with the length of {@link #getSize(int)}
+         */
+        public @Nullable ItemStack @NotNull [] getContents(final int record) {
+            final EncodedRecord encodedRecord = records.get(record);
+            final ItemStack[] contents = new ItemStack[encodedRecord.size()];
+            for (int i = 0; i < encodedRecord.slots().length; i++) {
+                final @Nullable ItemStack prototype = resolve(encodedRecord.indices()[i]);
+                if (prototype == null)
+                    continue;
+
+                final ItemStack item = prototype.clone();
+                item.setAmount(encodedRecord.amounts()[i]);
+                contents[encodedRecord.slots()[i]] = item;
+            }
+            return contents;
+        }
+
+        private @Nullable ItemStack resolve(final int index) {
+            if (!resolved[index]) {
+                prototypes[index] = ItemUtils.parse(itemIds[index]);
+                resolved[index] = true;
+            }
+            return prototypes[index];
+        }
+    }
+
+    private record EncodedRecord(int size, int[] slots, int[] indices, int[] amounts) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * An {@link ItemReference} is an item id paired with an amount and the slot it is stored in.
+ *
+ * @param slot   the slot index of the item
+ * @param itemId the item id in the format of {@code "namespace:item_id"}
+ * @param amount the item amount
+ */
+public record ItemReference(int slot, @NotNull String itemId, int amount) {
+    public ItemReference {
+        Objects.requireNonNull(itemId, "Item id cannot be null");
+        if (slot < 0)
+            throw new IllegalArgumentException("Slot cannot be negative");
+        if (amount < 0)
+            throw new IllegalArgumentException("Amount cannot be negative");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@link VarInts} class provides utilities for reading and writing
+ * variable length integers and strings to {@link ByteBuffer}'s.
+ * Values below {@code 128} are written as a single byte.
+ */
+public final class VarInts {
+    private VarInts() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Gets the amount of bytes required to write the value.
+     *
+     * @param value the value
+     * @return the amount of bytes
+     */
+    public static int size(final int value) {
+        if ((value & 0xFFFFFF80) == 0)
+            return 1;
+        if ((value & 0xFFFFC000) == 0)
+            return 2;
+        if ((value & 0xFFE00000) == 0)
+            return 3;
+        if ((value & 0xF0000000) == 0)
+            return 4;
+        return 5;
+    }
+
+    /**
+     * Gets the amount of bytes required to write the string.
+     *
+     * @param value the string
+     * @return the amount of bytes
+     */
+    public static int size(final @NotNull String value) {
+        final int length = value.getBytes(StandardCharsets.UTF_8).length;
+        return size(length) + length;
+    }
+
+    /**
+     * Writes a variable length integer to the buffer.
+     *
+     * @param buffer the buffer
+     * @param value  the value
+     */
+    public static void write(final @NotNull ByteBuffer buffer, final int value) {
+        int remaining = value;
+        while ((remaining & 0xFFFFFF80) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Writes a length prefixed UTF-8 string to the buffer.
+     *
+     * @param buffer the buffer
+     * @param value  the string
+     */
+    public static void write(final @NotNull ByteBuffer buffer, final @NotNull String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        write(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Reads a variable length integer from the buffer.
+     *
+     * @param buffer the buffer
+     * @return the value
+     * @throws IllegalArgumentException if the value is longer than five bytes
+     */
+    public static int readInt(final @NotNull ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IllegalArgumentException("VarInt is too long");
+    }
+
+    /**
+     * Reads a length prefixed UTF-8 string from the buffer.
+     *
+     * @param buffer the buffer
+     * @return the string
+     * @throws IllegalArgumentException if the length is negative
+     * @throws BufferUnderflowException if the buffer has less bytes remaining than the length
+     */
+    public static @NotNull String readString(final @NotNull ByteBuffer buffer) {
+        final int length = readInt(buffer);
+        if (length < 0)
+            throw new IllegalArgumentException("String length is negative: " + length);
+        if (length > buffer.remaining())
+            throw new BufferUnderflowException();
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,275 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.concurrent;
+
+import io.github.milkdrinkers.itemutil.InventoryUtils;
+import io.github.milkdrinkers.itemutil.ItemUtils;
+import io.github.milkdrinkers.itemutil.ProviderSnapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.DoubleChest;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.inventory.BlockInventoryHolder;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link RegionExecutor} runs inventory operations on the thread owning the
+ * inventory holder. On Folia entities are scheduled on their entity scheduler,
+ * blocks on the region scheduler of their chunk and every other holder on the
+ * global region scheduler. On Paper all of these run on the main thread.
+ *
+ * <pre>{@code
+ * RegionExecutor executor = RegionExecutor.create(plugin);
+ *
+ * executor.supply(player, holder -> InventoryUtils.countItems(holder, "nexo:ruby"))
+ *     .thenAccept(amount -> ...);
+ * }</pre>
+ *
+ * @apiNote Operations already running on the owning thread are executed immediately. Operations run with the latest
+ * {@link #getProviders() provider snapshot} bound, so item resolution inside them never queries the plugin manager.
+ * @see InventoryUtils
+ * @see ProviderSnapshot#supplyBound(java.util.function.Supplier)
+ */
+@SuppressWarnings("unused")
+public final class RegionExecutor implements AutoCloseable {
+    private final Plugin plugin;
+    private final AtomicReference<ProviderSnapshot> providers = new AtomicReference<>(ItemUtils.snapshotProviders());
+    private final Listener listener = new ProviderListener();
+
+    private RegionExecutor(final @NotNull Plugin plugin) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null");
+        Bukkit.getPluginManager().registerEvents(listener, plugin);
+    }
+
+    /**
+     * Creates a new {@link RegionExecutor} scheduling tasks for the plugin.
+     *
+     * @param plugin the plugin owning the scheduled tasks
+     * @return an executor
+     */
+    public static @NotNull RegionExecutor create(final @NotNull Plugin plugin) {
+        return new RegionExecutor(plugin);
+    }
+
+    /**
+     * Gets the latest snapshot of loaded item providers. The snapshot is refreshed whenever a plugin is enabled or
+     * disabled, and can safely be used from any region thread.
+     *
+     * @return a provider snapshot
+     */
+    public @NotNull ProviderSnapshot getProviders() {
+        return providers.get();
+    }
+
+    /**
+     * Runs the operation on the thread owning the inventory holder.
+     *
+     * @param holder    the inventory holder
+     * @param operation the operation
+     * @param <H>       the holder type
+     * @param <T>       the result type
+     * @return a future completed with the result of the operation
+     * @apiNote The future is completed exceptionally if the holder is an entity that is removed before the operation runs.
+     */
+    public <H extends InventoryHolder, T> @NotNull CompletableFuture<T> supply(final @NotNull H holder, final @NotNull Function<? super H, ? extends T> operation) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        execute(holder, () -> complete(future, providers.get(), holder, operation), () -> retire(future, holder));
+        return future;
+    }
+
+    /**
+     * Runs the operation on the thread owning the inventory holder.
+     *
+     * @param holder    the inventory holder
+     * @param operation the operation
+     * @param <H>       the holder type
+     * @return a future completed once the operation ran
+     * @apiNote The future is completed exceptionally if the holder is an entity that is removed before the operation runs.
+     */
+    public <H extends InventoryHolder> @NotNull CompletableFuture<Void> run(final @NotNull H holder, final @NotNull Consumer<? super H> operation) {
+        return supply(holder, h -> {
+            operation.accept(h);
+            return null;
+        });
+    }
+
+    /**
+     * Runs the operation for every inventory holder on its owning thread. Holders owned by
+     * different regions are processed in parallel, block holders in the same chunk share a single task.
+     *
+     * @param holders   the inventory holders
+     * @param operation the operation
+     * @param <H>       the holder type
+     * @param <T>       the result type
+     * @return a future completed with a map of holders to results, in the iteration order of the holders
+     * @apiNote The future is completed exceptionally if any of the operations fail.
+     */
+    public <H extends InventoryHolder, T> @NotNull CompletableFuture<Map<H, T>> supplyAll(final @NotNull Collection<? extends H> holders, final @NotNull Function<? super H, ? extends T> operation) {
+        final List<H> ordered = List.copyOf(holders);
+        final Map<H, Optional<T>> results = new ConcurrentHashMap<>();
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        // Group block holders per chunk, every other holder gets its own task
+        final Map<ChunkKey, List<H>> chunks = new LinkedHashMap<>();
+        for (final H holder : ordered) {
+            final @Nullable Location location = holder instanceof Entity ? null : locate(holder);
+            if (location == null || location.getWorld() == null) {
+                futures.add(supply(holder, operation).thenAccept(result -> results.put(holder, Optional.ofNullable(result))));
+                continue;
+            }
+
+            chunks.computeIfAbsent(new ChunkKey(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4), key -> new ArrayList<>())
+                .add(holder);
+        }
+
+        for (final Map.Entry<ChunkKey, List<H>> chunk : chunks.entrySet()) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            final ChunkKey key = chunk.getKey();
+            final Runnable task = () -> {
+                try {
+                    providers.get().runBound(() -> {
+                        for (final H holder : chunk.getValue())
+                            results.put(holder, Optional.ofNullable(operation.apply(holder)));
+                    });
+                    future.complete(null);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            };
+
+            if (Bukkit.isOwnedByCurrentRegion(new Location(key.world(), key.chunkX() << 4, 0, key.chunkZ() << 4))) {
+                task.run();
+            } else {
+                Bukkit.getRegionScheduler().execute(plugin, key.world(), key.chunkX(), key.chunkZ(), task);
+            }
+            futures.add(future);
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            final Map<H, T> mapped = new LinkedHashMap<>();
+            for (final H holder : ordered)
+                mapped.put(holder, results.get(holder).orElse(null));
+            return mapped;
+        });
+    }
+
+    /**
+     * Runs the operation for every inventory holder on its owning thread. Holders owned by
+     * different regions are processed in parallel.
+     *
+     * @param holders   the inventory holders
+     * @param operation the operation
+     * @param <H>       the holder type
+     * @return a future completed once all operations ran
+     * @apiNote The future is completed exceptionally if any of the operations fail.
+     */
+    public <H extends InventoryHolder> @NotNull CompletableFuture<Void> runAll(final @NotNull Collection<? extends H> holders, final @NotNull Consumer<? super H> operation) {
+        return supplyAll(holders, holder -> {
+            operation.accept(holder);
+            return null;
+        }).thenApply(ignored -> null);
+    }
+
+    /**
+     * Stops refreshing the provider snapshot. Already scheduled operations still run.
+     */
+    @Override
+    public void close() {
+        HandlerList.unregisterAll(listener);
+    }
+
+    private void execute(final InventoryHolder holder, final Runnable task, final Runnable retired) {
+        if (holder instanceof Entity entity) {
+            if (Bukkit.isOwnedByCurrentRegion(entity)) {
+                task.run();
+            } else if (!entity.getScheduler().execute(plugin, task, retired, 1L)) {
+                retired.run();
+            }
+            return;
+        }
+
+        final @Nullable Location location = locate(holder);
+        if (location == null) {
+            Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+        } else if (Bukkit.isOwnedByCurrentRegion(location)) {
+            task.run();
+        } else {
+            Bukkit.getRegionScheduler().execute(plugin, location, task);
+        }
+    }
+
+    private static @Nullable Location locate(final InventoryHolder holder) {
+        if (holder instanceof BlockState blockState)
+            return blockState.getLocation();
+        if (holder instanceof BlockInventoryHolder blockHolder)
+            return blockHolder.getBlock().getLocation();
+        if (holder instanceof DoubleChest doubleChest)
+            return doubleChest.getLocation();
+        return null;
+    }
+
+    private static <H, T> void complete(final CompletableFuture<T> future, final ProviderSnapshot snapshot, final H holder, final Function<? super H, ? extends T> operation) {
+        try {
+            future.complete(snapshot.supplyBound(() -> operation.apply(holder)));
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+    private static void retire(final CompletableFuture<?> future, final InventoryHolder holder) {
+        future.completeExceptionally(new IllegalStateException("Inventory holder was removed before the operation could run: " + holder));
+    }
+
+    private record ChunkKey(World world, int chunkX, int chunkZ) {
+    }
+
+    private final class ProviderListener implements Listener {
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginEnable(final PluginEnableEvent e) {
+            providers.set(ItemUtils.snapshotProviders());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginDisable(final PluginDisableEvent e) {
+            // The plugin is still enabled while the event is called
+            providers.set(ItemUtils.snapshotProviders().withoutPlugin(e.getPlugin().getName()));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package io.github.milkdrinkers.itemutil.integration;
+
+import io.github.milkdrinkers.itemutil.ItemCatalogue;
+import io.github.milkdrinkers.itemutil.ItemProvider;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * An {@link ItemIntegration} contains the logic for accessing the item api of a single plugin.
+ * <p>
+ * Integrations are created by their {@link ItemProvider} the first time they are used
+ * while the plugin is loaded, so the api classes of absent plugins are never loaded.
+ */
+public interface ItemIntegration {
+    /**
+     * Parse the item id into an item stack.
+     *
+     * @param itemId the item id, without namespace
+     * @return item stack or null
+     */
+    @Nullable ItemStack parseItem(@NotNull String itemId);
+
+    /**
+     * Check whether the item id maps to an existing item.
+     *
+     * @param itemId the item id, without namespace
+     * @return boolean
+     */
+    boolean isValidItem(@NotNull String itemId);
+
+    /**
+     * Parse an {@link ItemStack} into an item id.
+     *
+     * @param itemStack an item stack
+     * @return item id in the format of {@code "namespace:item_id"}, or null if the item stack does not belong to this integration
+     */
+    @Nullable String parseItem(@NotNull ItemStack itemStack);
+
+    /**
+     * Gets the ids of all items currently registered.
+     *
+     * @return item ids, without namespace
+     * @see ItemCatalogue
+     */
+    @NotNull Collection<String> getItemIds();
+
+    /**
+     * Registers the action to run whenever the plugin has (re)loaded its items.
+     *
+     * @param plugin   the plugin owning the listener
+     * @param listener the listener to register the event under
+     * @param action   the action
+     * @return true if the action runs once the plugin has loaded its items, false if the items are complete as soon as the plugin is enabled
+     * @implSpec The default implementation does nothing and returns false, for integrations whose items never change at runtime.
+     */
+    default boolean onItemsLoaded(@NotNull Plugin plugin, @NotNull Listener listener, @NotNull Runnable action) {
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package io.github.milkdrinkers.itemutil.integration;
+
+import dev.lone.itemsadder.api.CustomStack;
+import dev.lone.itemsadder.api.Events.ItemsAdderLoadDataEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * The {@link ItemIntegration} for ItemsAdder.
+ */
+@ApiStatus.Internal
+public final class ItemsAdderIntegration implements ItemIntegration {
+    @Override
+    public @Nullable ItemStack parseItem(final @NotNull String itemId) {
+        return CustomStack.getInstance(itemId).getItemStack();
+    }
+
+    @Override
+    public boolean isValidItem(final @NotNull String itemId) {
+        return CustomStack.isInRegistry(itemId);
+    }
+
+    @Override
+    public @Nullable String parseItem(final @NotNull ItemStack itemStack) {
+        final @Nullable CustomStack stack = CustomStack.byItemStack(itemStack);
+        if (stack == null)
+            return null;
+
+        return "itemsadder:" + stack.getId();
+    }
+
+    @Override
+    public @NotNull Collection<String> getItemIds() {
+        // Registry ids are "namespace:id", while parsed item stacks use the plain id
+        return CustomStack.getNamespacedIdsInRegistry()
+            .stream()
+            .map(itemId -> itemId.substring(itemId.indexOf(':') + 1))
+            .toList();
+    }
+
+    @Override
+    public boolean onItemsLoaded(final @NotNull Plugin plugin, final @NotNull Listener listener, final @NotNull Runnable action) {
+        Bukkit.getPluginManager().registerEvent(ItemsAdderLoadDataEvent.class, listener, EventPriority.MONITOR, (l, event) -> {
+            if (event instanceof ItemsAdderLoadDataEvent)
+                action.run();
+        }, plugin);
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package io.github.milkdrinkers.itemutil.integration;
+
+import com.nexomc.nexo.api.NexoItems;
+import com.nexomc.nexo.api.events.NexoItemsLoadedEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@link ItemIntegration} for Nexo.
+ */
+@ApiStatus.Internal
+public final class NexoIntegration implements ItemIntegration {
+    @Override
+    public @Nullable ItemStack parseItem(final @NotNull String itemId) {
+        return Objects.requireNonNull(NexoItems.itemFromId(itemId)).build();
+    }
+
+    @Override
+    public boolean isValidItem(final @NotNull String itemId) {
+        return NexoItems.exists(itemId);
+    }
+
+    @Override
+    public @Nullable String parseItem(final @NotNull ItemStack itemStack) {
+        final @Nullable String stackId = NexoItems.idFromItem(itemStack);
+        if (stackId == null)
+            return null;
+
+        return "nexo:" + stackId;
+    }
+
+    @Override
+    public @NotNull Collection<String> getItemIds() {
+        final List<String> itemIds = new ArrayList<>();
+        for (final String itemId : NexoItems.itemNames())
+            itemIds.add(itemId);
+        return itemIds;
+    }
+
+    @Override
+    public boolean onItemsLoaded(final @NotNull Plugin plugin, final @NotNull Listener listener, final @NotNull Runnable action) {
+        Bukkit.getPluginManager().registerEvent(NexoItemsLoadedEvent.class, listener, EventPriority.MONITOR, (l, event) -> {
+            if (event instanceof NexoItemsLoadedEvent)
+                action.run();
+        }, plugin);
+        return true;
+    }
+}
\ No newline at end of file
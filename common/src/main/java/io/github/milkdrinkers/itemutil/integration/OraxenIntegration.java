@@ -0,0 +1,79 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package io.github.milkdrinkers.itemutil.integration;
+
+import io.th0rgal.oraxen.api.OraxenItems;
+import io.th0rgal.oraxen.api.events.OraxenItemsLoadedEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The {@link ItemIntegration} for Oraxen.
+ */
+@ApiStatus.Internal
+public final class OraxenIntegration implements ItemIntegration {
+    @Override
+    public @Nullable ItemStack parseItem(final @NotNull String itemId) {
+        return OraxenItems.getItemById(itemId).build();
+    }
+
+    @Override
+    public boolean isValidItem(final @NotNull String itemId) {
+        return OraxenItems.exists(itemId);
+    }
+
+    @Override
+    public @Nullable String parseItem(final @NotNull ItemStack itemStack) {
+        if (!OraxenItems.exists(itemStack))
+            return null;
+
+        return "oraxen:" + OraxenItems.getIdByItem(itemStack);
+    }
+
+    @Override
+    public @NotNull Collection<String> getItemIds() {
+        final List<String> itemIds = new ArrayList<>();
+        for (final String itemId : OraxenItems.nameArray())
+            itemIds.add(itemId);
+        return itemIds;
+    }
+
+    @Override
+    public boolean onItemsLoaded(final @NotNull Plugin plugin, final @NotNull Listener listener, final @NotNull Runnable action) {
+        Bukkit.getPluginManager().registerEvent(OraxenItemsLoadedEvent.class, listener, EventPriority.MONITOR, (l, event) -> {
+            if (event instanceof OraxenItemsLoadedEvent)
+                action.run();
+        }, plugin);
+        return true;
+    }
+}
\ No newline at end of file
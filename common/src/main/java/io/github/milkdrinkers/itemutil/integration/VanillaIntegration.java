@@ -0,0 +1,69 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package io.github.milkdrinkers.itemutil.integration;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The {@link ItemIntegration} for vanilla items.
+ */
+@ApiStatus.Internal
+public final class VanillaIntegration implements ItemIntegration {
+    @Override
+    public @Nullable ItemStack parseItem(final @NotNull String itemId) {
+        try {
+            final @Nullable Material material = Material.matchMaterial(itemId);
+            if (material == null)
+                return null;
+
+            return new ItemStack(material, 1);
+        } catch (IllegalArgumentException _ignored) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isValidItem(final @NotNull String itemId) {
+        return Material.matchMaterial(itemId) != null;
+    }
+
+    @Override
+    public @Nullable String parseItem(final @NotNull ItemStack itemStack) {
+        return itemStack.getType().getKey().asString();
+    }
+
+    @Override
+    public @NotNull Collection<String> getItemIds() {
+        return Arrays.stream(Material.values())
+            .filter(material -> material.isItem() && !material.isAir() && !material.isLegacy())
+            .map(material -> material.getKey().getKey())
+            .toList();
+    }
+}
\ No newline at end of file
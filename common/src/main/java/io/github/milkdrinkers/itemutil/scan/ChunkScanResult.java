@@ -0,0 +1,46 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.scan;
+
+import io.github.milkdrinkers.itemutil.ItemHistogram;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The items found in all containers of a single chunk by a {@link ContainerScanner}.
+ *
+ * @param world      the world of the chunk
+ * @param chunkX     the chunk x coordinate
+ * @param chunkZ     the chunk z coordinate
+ * @param containers the containers in the chunk where items were found
+ * @param histogram  the items found in the chunk
+ */
+public record ChunkScanResult(
+    @NotNull World world,
+    int chunkX,
+    int chunkZ,
+    @NotNull List<ContainerScanResult> containers,
+    @NotNull ItemHistogram histogram
+) {
+}
\ No newline at end of file
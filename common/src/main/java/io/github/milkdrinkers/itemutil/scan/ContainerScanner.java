@@ -0,0 +1,337 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.scan;
+
+import io.github.milkdrinkers.itemutil.ItemHistogram;
+import io.github.milkdrinkers.itemutil.ItemMatcher;
+import io.github.milkdrinkers.itemutil.ItemUtils;
+import io.github.milkdrinkers.itemutil.ProviderSnapshot;
+import io.github.milkdrinkers.itemutil.concurrent.RegionExecutor;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A {@link ContainerScanner} counts the items in every container of the loaded chunks without blocking the server.
+ * <p>
+ * Container contents are captured on the main thread a few chunks per tick, while resolving
+ * item ids and counting runs on the executor. Results are streamed per container and per chunk
+ * as soon as each chunk has been counted.
+ *
+ * <pre>{@code
+ * ContainerScanner.builder(plugin)
+ *     .filter(ItemMatcher.of("nexo:ruby_sword"))
+ *     .onContainer(result -> getLogger().info("%d at %d %d %d".formatted(result.histogram().total(), result.x(), result.y(), result.z())))
+ *     .build()
+ *     .start()
+ *     .thenAccept(total -> getLogger().info("Found " + total));
+ * }</pre>
+ *
+ * @apiNote Contents are captured using the Bukkit scheduler. On Folia use {@link RegionExecutor#supplyAll(Collection, java.util.function.Function)} instead.
+ */
+@SuppressWarnings("unused")
+public final class ContainerScanner {
+    private final Plugin plugin;
+    private final List<World> worlds;
+    private final int chunksPerTick;
+    private final Predicate<ItemStack> filter;
+    private final @Nullable ProviderSnapshot providers;
+    private final Executor executor;
+    private final @Nullable Consumer<ContainerScanResult> containerListener;
+    private final @Nullable Consumer<ChunkScanResult> chunkListener;
+    private final CompletableFuture<ItemHistogram> future = new CompletableFuture<>();
+    private final ItemHistogram total = new ItemHistogram();
+    private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+    private @Nullable ProviderSnapshot snapshot;
+    private @Nullable Deque<Chunk> chunks;
+    private @Nullable BukkitTask task;
+
+    private ContainerScanner(final Builder builder) {
+        this.plugin = builder.plugin;
+        this.worlds = List.copyOf(builder.worlds != null ? builder.worlds : Bukkit.getWorlds());
+        this.chunksPerTick = builder.chunksPerTick;
+        this.filter = builder.filter;
+        this.providers = builder.providers;
+        this.executor = builder.executor;
+        this.containerListener = builder.containerListener;
+        this.chunkListener = builder.chunkListener;
+    }
+
+    /**
+     * Creates a new {@link Builder} for a container scan.
+     *
+     * @param plugin the plugin owning the capture task
+     * @return a builder
+     */
+    public static @NotNull Builder builder(final @NotNull Plugin plugin) {
+        return new Builder(plugin);
+    }
+
+    /**
+     * Starts the scan on the next tick.
+     *
+     * @return a future completed with the items found in all containers once every chunk has been counted
+     * @throws IllegalStateException if the scan was already started
+     * @apiNote Cancelling the future stops the scan.
+     */
+    public synchronized @NotNull CompletableFuture<ItemHistogram> start() {
+        if (task != null || future.isDone())
+            throw new IllegalStateException("Scan was already started");
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        future.whenComplete((histogram, throwable) -> stop());
+        return future;
+    }
+
+    /**
+     * Stops the scan, cancelling its future if it has not completed yet.
+     */
+    public void cancel() {
+        future.cancel(false);
+    }
+
+    private void tick() {
+        synchronized (this) {
+            if (future.isDone())
+                return;
+
+            // The loaded chunks and providers are only read on the main thread
+            if (chunks == null) {
+                snapshot = providers != null ? providers : ItemUtils.snapshotProviders();
+                chunks = new ArrayDeque<>();
+                for (final World world : worlds)
+                    chunks.addAll(Arrays.asList(world.getLoadedChunks()));
+            }
+
+            for (int i = 0; i < chunksPerTick && !chunks.isEmpty(); i++) {
+                final Chunk chunk = chunks.poll();
+                if (!chunk.isLoaded())
+                    continue;
+
+                final List<CapturedContainer> containers = capture(chunk);
+                if (containers.isEmpty())
+                    continue;
+
+                final World world = chunk.getWorld();
+                final int chunkX = chunk.getX();
+                final int chunkZ = chunk.getZ();
+                final ProviderSnapshot providerSnapshot = snapshot;
+                pending.add(CompletableFuture.runAsync(() -> count(world, chunkX, chunkZ, containers, providerSnapshot), executor));
+            }
+
+            if (!chunks.isEmpty())
+                return;
+
+            stop();
+        }
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+
+            synchronized (total) {
+                future.complete(total);
+            }
+        });
+    }
+
+    /**
+     * Captures the contents of all containers in the chunk.
+     *
+     * @param chunk the chunk
+     * @return the captured containers
+     * @implNote Tile entities are returned as block state snapshots, so their contents are not modified by the server after capturing them.
+     */
+    private static @NotNull List<CapturedContainer> capture(final @NotNull Chunk chunk) {
+        final List<CapturedContainer> containers = new ArrayList<>();
+        for (final BlockState state : chunk.getTileEntities()) {
+            if (!(state instanceof Container container))
+                continue;
+
+            containers.add(new CapturedContainer(container.getX(), container.getY(), container.getZ(), container.getType(), container.getSnapshotInventory().getContents()));
+        }
+        return containers;
+    }
+
+    private void count(final @NotNull World world, final int chunkX, final int chunkZ, final @NotNull List<CapturedContainer> containers, final @NotNull ProviderSnapshot providerSnapshot) {
+        if (future.isDone())
+            return;
+
+        final List<ContainerScanResult> results = new ArrayList<>();
+        final ItemHistogram chunkHistogram = new ItemHistogram();
+        for (final CapturedContainer container : containers) {
+            final ItemHistogram histogram = ItemHistogram.of(container.contents(), providerSnapshot, filter);
+            if (histogram.isEmpty())
+                continue;
+
+            final ContainerScanResult result = new ContainerScanResult(world, container.x(), container.y(), container.z(), container.type(), histogram);
+            results.add(result);
+            chunkHistogram.merge(histogram);
+            if (containerListener != null)
+                containerListener.accept(result);
+        }
+
+        if (results.isEmpty())
+            return;
+
+        synchronized (total) {
+            total.merge(chunkHistogram);
+        }
+
+        if (chunkListener != null)
+            chunkListener.accept(new ChunkScanResult(world, chunkX, chunkZ, List.copyOf(results), chunkHistogram));
+    }
+
+    private synchronized void stop() {
+        if (task != null)
+            task.cancel();
+    }
+
+    private record CapturedContainer(int x, int y, int z, Material type, @Nullable ItemStack[] contents) {
+    }
+
+    /**
+     * A builder for {@link ContainerScanner}'s.
+     */
+    public static final class Builder {
+        private final Plugin plugin;
+        private @Nullable Collection<World> worlds;
+        private int chunksPerTick = 8;
+        private Predicate<ItemStack> filter = item -> true;
+        private @Nullable ProviderSnapshot providers;
+        private Executor executor = ForkJoinPool.commonPool();
+        private @Nullable Consumer<ContainerScanResult> containerListener;
+        private @Nullable Consumer<ChunkScanResult> chunkListener;
+
+        private Builder(final @NotNull Plugin plugin) {
+            this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null");
+        }
+
+        /**
+         * Set the worlds to scan. Defaults to all worlds.
+         *
+         * @param worlds the worlds
+         * @return this builder
+         */
+        public @NotNull Builder worlds(final @NotNull Collection<World> worlds) {
+            this.worlds = Objects.requireNonNull(worlds, "Worlds cannot be null");
+            return this;
+        }
+
+        /**
+         * Set the amount of chunks captured per tick. Defaults to 8.
+         *
+         * @param chunksPerTick the amount of chunks
+         * @return this builder
+         */
+        public @NotNull Builder chunksPerTick(final int chunksPerTick) {
+            if (chunksPerTick <= 0)
+                throw new IllegalArgumentException("Chunks per tick must be positive");
+
+            this.chunksPerTick = chunksPerTick;
+            return this;
+        }
+
+        /**
+         * Set a filter for the items to count, for example an {@link ItemMatcher}. Defaults to counting all items.
+         *
+         * @param filter the filter
+         * @return this builder
+         * @implNote The filter is tested on the executor.
+         */
+        public @NotNull Builder filter(final @NotNull Predicate<ItemStack> filter) {
+            this.filter = Objects.requireNonNull(filter, "Filter cannot be null");
+            return this;
+        }
+
+        /**
+         * Set the providers used to resolve item ids. Defaults to the providers loaded when the scan starts.
+         *
+         * @param providers the provider snapshot
+         * @return this builder
+         */
+        public @NotNull Builder providers(final @NotNull ProviderSnapshot providers) {
+            this.providers = Objects.requireNonNull(providers, "Providers cannot be null");
+            return this;
+        }
+
+        /**
+         * Set the executor resolving and counting the captured contents. Defaults to the common fork join pool.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public @NotNull Builder executor(final @NotNull Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+            return this;
+        }
+
+        /**
+         * Set a listener called on the executor for every container where items were found.
+         *
+         * @param containerListener the container listener
+         * @return this builder
+         */
+        public @NotNull Builder onContainer(final @NotNull Consumer<ContainerScanResult> containerListener) {
+            this.containerListener = containerListener;
+            return this;
+        }
+
+        /**
+         * Set a listener called on the executor for every chunk where items were found.
+         *
+         * @param chunkListener the chunk listener
+         * @return this builder
+         */
+        public @NotNull Builder onChunk(final @NotNull Consumer<ChunkScanResult> chunkListener) {
+            this.chunkListener = chunkListener;
+            return this;
+        }
+
+        /**
+         * Builds the scanner. The scan does not run until {@link ContainerScanner#start()} is called.
+         *
+         * @return a container scanner
+         */
+        public @NotNull ContainerScanner build() {
+            return new ContainerScanner(this);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fixed size, memory mapped file holding length prefixed records.
+ * <p>
+ * A record body is written before its length, so a record torn by a crash
+ * reads as a zero length and marks the end of the segment. The header stores
+ * the generation of the store the segment belongs to, see {@link SnapshotStore#compact(java.time.Instant)}.
+ */
+final class Segment implements Closeable {
+    private static final int MAGIC = 0x49545353; // "ITSS"
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final int VERSION = 1;
+
+    private final int id;
+    private final long generation;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int position;
+
+    private Segment(final int id, final long generation, final Path path, final FileChannel channel, final MappedByteBuffer buffer, final int position) {
+        this.id = id;
+        this.generation = generation;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    /**
+     * Creates and maps a new, empty segment file.
+     */
+    static @NotNull Segment create(final @NotNull Path path, final int id, final long generation, final int capacity) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(Integer.BYTES, VERSION);
+        buffer.putLong(Integer.BYTES * 2, generation);
+        return new Segment(id, generation, path, channel, buffer, HEADER_SIZE);
+    }
+
+    /**
+     * Maps an existing segment file, positioning it after its last complete record.
+     */
+    static @NotNull Segment open(final @NotNull Path path, final int id) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Files.size(path));
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            channel.close();
+            throw new IOException("Not a snapshot segment: " + path);
+        }
+
+        final Segment segment = new Segment(id, buffer.getLong(Integer.BYTES * 2), path, channel, buffer, HEADER_SIZE);
+        segment.position = segment.scanEnd();
+        return segment;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    @NotNull Path getPath() {
+        return path;
+    }
+
+    boolean fits(final int length) {
+        return (long) position + Integer.BYTES + length <= buffer.capacity();
+    }
+
+    /**
+     * Appends the remaining bytes of the record.
+     *
+     * @return the offset of the record in this segment
+     */
+    int append(final @NotNull ByteBuffer record) {
+        final int offset = position;
+        final int length = record.remaining();
+        buffer.put(offset + Integer.BYTES, record, record.position(), length);
+        buffer.putInt(offset, length);
+        position = offset + Integer.BYTES + length;
+        return offset;
+    }
+
+    /**
+     * Gets a read only view of the record at the offset.
+     */
+    @NotNull ByteBuffer read(final int offset) {
+        final int length = buffer.getInt(offset);
+        return buffer.slice(offset + Integer.BYTES, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets the offsets of all complete records in this segment.
+     */
+    @NotNull List<Integer> offsets() {
+        final List<Integer> offsets = new ArrayList<>();
+        int offset = HEADER_SIZE;
+        while (offset < position) {
+            offsets.add(offset);
+            offset += Integer.BYTES + buffer.getInt(offset);
+        }
+        return offsets;
+    }
+
+    void flush() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private int scanEnd() {
+        int offset = HEADER_SIZE;
+        while (offset + Integer.BYTES <= buffer.capacity()) {
+            final int length = buffer.getInt(offset);
+            if (length <= 0 || (long) offset + Integer.BYTES + length > buffer.capacity())
+                break;
+
+            offset += Integer.BYTES + length;
+        }
+        return offset;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The recorded state of a single inventory slot. The serialized
+ * item is only present for items that differ from their item id's template.
+ */
+final class SlotState {
+    private final String itemId;
+    private final int amount;
+    private final byte @Nullable [] serialized;
+
+    SlotState(final @NotNull String itemId, final int amount, final byte @Nullable [] serialized) {
+        this.itemId = itemId;
+        this.amount = amount;
+        this.serialized = serialized;
+    }
+
+    @NotNull String itemId() {
+        return itemId;
+    }
+
+    int amount() {
+        return amount;
+    }
+
+    byte @Nullable [] serialized() {
+        return serialized;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof SlotState other))
+            return false;
+
+        return amount == other.amount && itemId.equals(other.itemId) && Arrays.equals(serialized, other.serialized);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(itemId, amount) * 31 + Arrays.hashCode(serialized);
+    }
+}
\ No newline at end of file
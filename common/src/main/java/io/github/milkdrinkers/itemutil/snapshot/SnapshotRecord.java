@@ -0,0 +1,177 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.snapshot;
+
+import io.github.milkdrinkers.itemutil.codec.VarInts;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * A decoded snapshot record. Keyframes contain the full inventory, deltas
+ * only contain the slots changed since the previous record of the same owner,
+ * where a {@code null} state marks a cleared slot.
+ * <p>
+ * Encoded layout: {@code type, owner, timestamp, size, id dictionary, entries}, where every
+ * entry is {@code (slot, dictionary index + 1, amount, serialized length, serialized bytes)}
+ * and a dictionary index of {@code 0} marks a cleared slot.
+ */
+record SnapshotRecord(boolean keyframe, @NotNull UUID owner, long timestamp, int size, @NotNull Map<Integer, SlotState> changes) {
+    private static final byte TYPE_KEYFRAME = 0;
+    private static final byte TYPE_DELTA = 1;
+
+    /**
+     * Creates a record from the difference between two slot state arrays.
+     *
+     * @param previous the previous state, or null to create a keyframe
+     */
+    static @NotNull SnapshotRecord diff(final @NotNull UUID owner, final long timestamp, final @Nullable SlotState @Nullable [] previous, final @Nullable SlotState @NotNull [] current) {
+        final Map<Integer, SlotState> changes = new LinkedHashMap<>();
+        for (int slot = 0; slot < current.length; slot++) {
+            final @Nullable SlotState before = previous != null && slot < previous.length ? previous[slot] : null;
+            if (previous == null ? current[slot] != null : !Objects.equals(before, current[slot]))
+                changes.put(slot, current[slot]);
+        }
+        return new SnapshotRecord(previous == null, owner, timestamp, current.length, changes);
+    }
+
+    /**
+     * Applies this record on top of the previous state.
+     *
+     * @param previous the state before this record, ignored for keyframes
+     * @return the state after this record
+     */
+    @Nullable SlotState @NotNull [] apply(final @Nullable SlotState @Nullable [] previous) {
+        final SlotState[] state = keyframe || previous == null ? new SlotState[size] : Arrays.copyOf(previous, size);
+        for (final Map.Entry<Integer, SlotState> change : changes.entrySet())
+            state[change.getKey()] = change.getValue();
+        return state;
+    }
+
+    @NotNull ByteBuffer encode() {
+        final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (final @Nullable SlotState state : changes.values()) {
+            if (state != null)
+                dictionary.putIfAbsent(state.itemId(), dictionary.size());
+        }
+
+        int length = Byte.BYTES + Long.BYTES * 3 + VarInts.size(size) + VarInts.size(dictionary.size()) + VarInts.size(changes.size());
+        for (final String itemId : dictionary.keySet())
+            length += VarInts.size(itemId);
+        for (final Map.Entry<Integer, SlotState> change : changes.entrySet()) {
+            length += VarInts.size(change.getKey());
+            final @Nullable SlotState state = change.getValue();
+            if (state == null) {
+                length += VarInts.size(0);
+                continue;
+            }
+
+            final int serializedLength = state.serialized() == null ? 0 : state.serialized().length;
+            length += VarInts.size(dictionary.get(state.itemId()) + 1) + VarInts.size(state.amount()) + VarInts.size(serializedLength) + serializedLength;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(keyframe ? TYPE_KEYFRAME : TYPE_DELTA);
+        buffer.putLong(owner.getMostSignificantBits());
+        buffer.putLong(owner.getLeastSignificantBits());
+        buffer.putLong(timestamp);
+        VarInts.write(buffer, size);
+        VarInts.write(buffer, dictionary.size());
+        for (final String itemId : dictionary.keySet())
+            VarInts.write(buffer, itemId);
+
+        VarInts.write(buffer, changes.size());
+        for (final Map.Entry<Integer, SlotState> change : changes.entrySet()) {
+            VarInts.write(buffer, change.getKey());
+            final @Nullable SlotState state = change.getValue();
+            if (state == null) {
+                VarInts.write(buffer, 0);
+                continue;
+            }
+
+            VarInts.write(buffer, dictionary.get(state.itemId()) + 1);
+            VarInts.write(buffer, state.amount());
+            if (state.serialized() == null) {
+                VarInts.write(buffer, 0);
+            } else {
+                VarInts.write(buffer, state.serialized().length);
+                buffer.put(state.serialized());
+            }
+        }
+        return buffer.flip();
+    }
+
+    static @NotNull SnapshotRecord decode(final @NotNull ByteBuffer buffer) {
+        final boolean keyframe = buffer.get() == TYPE_KEYFRAME;
+        final UUID owner = new UUID(buffer.getLong(), buffer.getLong());
+        final long timestamp = buffer.getLong();
+        final int size = VarInts.readInt(buffer);
+
+        final String[] dictionary = new String[VarInts.readInt(buffer)];
+        for (int i = 0; i < dictionary.length; i++)
+            dictionary[i] = VarInts.readString(buffer);
+
+        final int changeCount = VarInts.readInt(buffer);
+        final Map<Integer, SlotState> changes = new LinkedHashMap<>(changeCount * 2);
+        for (int i = 0; i < changeCount; i++) {
+            final int slot = VarInts.readInt(buffer);
+            final int index = VarInts.readInt(buffer);
+            if (index == 0) {
+                changes.put(slot, null);
+                continue;
+            }
+
+            final int amount = VarInts.readInt(buffer);
+            final int serializedLength = VarInts.readInt(buffer);
+            byte[] serialized = null;
+            if (serializedLength > 0) {
+                serialized = new byte[serializedLength];
+                buffer.get(serialized);
+            }
+            changes.put(slot, new SlotState(dictionary[index - 1], amount, serialized));
+        }
+        return new SnapshotRecord(keyframe, owner, timestamp, size, changes);
+    }
+
+    /**
+     * Reads the owner of an encoded record without decoding it.
+     */
+    static @NotNull UUID readOwner(final @NotNull ByteBuffer buffer) {
+        return new UUID(buffer.getLong(Byte.BYTES), buffer.getLong(Byte.BYTES + Long.BYTES));
+    }
+
+    /**
+     * Reads the timestamp of an encoded record without decoding it.
+     */
+    static long readTimestamp(final @NotNull ByteBuffer buffer) {
+        return buffer.getLong(Byte.BYTES + Long.BYTES * 2);
+    }
+
+    /**
+     * Reads whether an encoded record is a keyframe without decoding it.
+     */
+    static boolean readKeyframe(final @NotNull ByteBuffer buffer) {
+        return buffer.get(0) == TYPE_KEYFRAME;
+    }
+}
\ No newline at end of file
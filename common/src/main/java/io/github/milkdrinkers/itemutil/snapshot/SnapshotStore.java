@@ -0,0 +1,508 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.snapshot;
+
+import io.github.milkdrinkers.itemutil.ItemUtils;
+import org.bukkit.Material;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * A {@link SnapshotStore} records inventory snapshots to memory mapped
+ * segment files in a local directory.
+ * <p>
+ * Every slot is stored as an item id and amount. The full serialized item is
+ * only stored for items that differ from the item stack their item id parses into.
+ * Snapshots are written as deltas against the previous snapshot of the same owner,
+ * with a full keyframe every {@link Builder#keyframeInterval(int)} snapshots.
+ *
+ * <pre>{@code
+ * SnapshotStore store = SnapshotStore.builder(getDataFolder().toPath().resolve("snapshots")).build();
+ * store.record(player.getUniqueId(), player);
+ *
+ * Optional<ItemStack[]> contents = store.restore(player.getUniqueId(), Instant.now().minus(Duration.ofMinutes(10)));
+ * }</pre>
+ *
+ * @implNote Recording resolves item ids through {@link ItemUtils#parse(ItemStack)} and should be called on the
+ * thread owning the inventory. All methods are synchronized on the store.
+ */
+@SuppressWarnings("unused")
+public final class SnapshotStore implements Closeable {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String GENERATION_FILE = "generation";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int keyframeInterval;
+    private final Map<String, ItemStack> templates = new HashMap<>();
+    private Generation current;
+    private long lastGeneration;
+    private int nextSegmentId;
+    private boolean closed;
+
+    private SnapshotStore(final Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.segmentSize = builder.segmentSize;
+        this.keyframeInterval = builder.keyframeInterval;
+
+        Files.createDirectories(directory);
+        final Path generationFile = directory.resolve(GENERATION_FILE);
+        this.current = new Generation(Files.exists(generationFile) ? parseGeneration(generationFile) : 0);
+        this.lastGeneration = current.id;
+
+        // Segments of any other generation are either superseded by, or left behind by an interrupted, compaction
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (final Path path : stream) {
+                final Segment segment = Segment.open(path, parseSegmentId(path));
+                nextSegmentId = Math.max(nextSegmentId, segment.getId() + 1);
+                lastGeneration = Math.max(lastGeneration, segment.getGeneration());
+                if (segment.getGeneration() == current.id) {
+                    current.segments.add(segment);
+                } else {
+                    segment.close();
+                    Files.delete(path);
+                }
+            }
+        }
+        current.segments.sort(Comparator.comparingInt(Segment::getId));
+
+        for (final Segment segment : current.segments) {
+            for (final int offset : segment.offsets())
+                indexRecord(segment, offset);
+        }
+
+        for (final Map.Entry<UUID, List<IndexEntry>> owner : current.index.entrySet()) {
+            owner.getValue().sort(Comparator.comparingLong(IndexEntry::timestamp));
+            current.latest.put(owner.getKey(), replay(owner.getValue(), owner.getValue().size() - 1));
+        }
+    }
+
+    /**
+     * Creates a new {@link Builder} for a store in the directory.
+     *
+     * @param directory the directory holding the segment files
+     * @return a builder
+     */
+    public static @NotNull Builder builder(final @NotNull Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Records a snapshot of the inventory at the current time.
+     *
+     * @param owner     the owner of the snapshot
+     * @param inventory the inventory to snapshot
+     * @throws IOException if the snapshot could not be written
+     */
+    public void record(final @NotNull UUID owner, final @NotNull InventoryHolder inventory) throws IOException {
+        record(owner, Instant.now(), inventory.getInventory().getContents());
+    }
+
+    /**
+     * Records a snapshot of the inventory contents.
+     *
+     * @param owner     the owner of the snapshot
+     * @param timestamp the time of the snapshot, must not be before the latest snapshot of the owner
+     * @param contents  the inventory contents
+     * @throws IOException              if the snapshot could not be written
+     * @throws IllegalArgumentException if the timestamp is before the latest snapshot of the owner
+     */
+    public synchronized void record(final @NotNull UUID owner, final @NotNull Instant timestamp, final @Nullable ItemStack @NotNull [] contents) throws IOException {
+        ensureOpen();
+
+        final List<IndexEntry> entries = current.index.getOrDefault(owner, List.of());
+        if (!entries.isEmpty() && entries.get(entries.size() - 1).timestamp() > timestamp.toEpochMilli())
+            throw new IllegalArgumentException("Snapshot timestamp is before the latest snapshot of " + owner);
+
+        final SlotState[] current = new SlotState[contents.length];
+        for (int slot = 0; slot < contents.length; slot++)
+            current[slot] = toState(contents[slot]);
+
+        final boolean keyframe = entries.isEmpty() || entries.size() % keyframeInterval == 0;
+        final SnapshotRecord snapshot = SnapshotRecord.diff(owner, timestamp.toEpochMilli(), keyframe ? null : this.current.latest.get(owner), current);
+        append(this.current, snapshot.encode(), snapshot);
+    }
+
+    /**
+     * Reconstructs the inventory contents of the latest snapshot at or before the time.
+     *
+     * @param owner the owner of the snapshot
+     * @param time  the point in time
+     * @return the inventory contents, or empty if the owner has no snapshot at or before the time
+     * @apiNote Slots with item ids that can't be parsed are left empty, like custom items whose provider has not loaded them yet.
+     */
+    public synchronized @NotNull Optional<ItemStack[]> restore(final @NotNull UUID owner, final @NotNull Instant time) {
+        ensureOpen();
+
+        final @Nullable SlotState[] state = stateAt(owner, time.toEpochMilli());
+        if (state == null)
+            return Optional.empty();
+
+        final ItemStack[] contents = new ItemStack[state.length];
+        for (int slot = 0; slot < state.length; slot++)
+            contents[slot] = toItem(state[slot]);
+        return Optional.of(contents);
+    }
+
+    /**
+     * Gets the times of all stored snapshots of the owner, in ascending order.
+     *
+     * @param owner the owner of the snapshots
+     * @return list of snapshot times
+     */
+    public synchronized @NotNull List<Instant> getTimestamps(final @NotNull UUID owner) {
+        return current.index.getOrDefault(owner, List.of())
+            .stream()
+            .map(entry -> Instant.ofEpochMilli(entry.timestamp()))
+            .toList();
+    }
+
+    /**
+     * Gets all owners with stored snapshots.
+     *
+     * @return set of owners
+     */
+    public synchronized @NotNull Set<UUID> getOwners() {
+        return Set.copyOf(current.index.keySet());
+    }
+
+    /**
+     * Compacts the store, discarding every snapshot before the cutoff except the latest one of each owner,
+     * which is rewritten as a keyframe. All live records are rewritten into new segments.
+     *
+     * @param cutoff snapshots before this time are discarded
+     * @throws IOException if the compacted segments could not be written, the store is left unchanged
+     * @implNote The compacted records are written as a new generation of segments. The generation only replaces
+     * the current one once all of its segments are flushed and the generation file has been atomically updated,
+     * segments of any other generation are discarded when the store is opened.
+     */
+    public synchronized void compact(final @NotNull Instant cutoff) throws IOException {
+        ensureOpen();
+
+        final Generation next = new Generation(++lastGeneration);
+        try {
+            final long cutoffMillis = cutoff.toEpochMilli();
+            for (final Map.Entry<UUID, List<IndexEntry>> owner : current.index.entrySet()) {
+                final List<IndexEntry> entries = owner.getValue();
+                int first = 0;
+                for (int i = 0; i < entries.size(); i++) {
+                    if (entries.get(i).timestamp() <= cutoffMillis)
+                        first = i;
+                }
+
+                // The first retained snapshot becomes a keyframe, every following delta still applies on top of it
+                final SlotState[] base = replay(entries, first);
+                final SnapshotRecord keyframe = SnapshotRecord.diff(owner.getKey(), entries.get(first).timestamp(), null, base);
+                append(next, keyframe.encode(), keyframe);
+                for (int i = first + 1; i < entries.size(); i++) {
+                    final IndexEntry entry = entries.get(i);
+                    final SnapshotRecord snapshot = SnapshotRecord.decode(entry.segment().read(entry.offset()));
+                    append(next, snapshot.encode(), snapshot);
+                }
+            }
+
+            for (final Segment segment : next.segments)
+                segment.flush();
+            writeGeneration(next.id);
+        } catch (IOException | RuntimeException e) {
+            try {
+                discard(next);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+
+        final Generation previous = current;
+        current = next;
+        try {
+            discard(previous);
+        } catch (IOException ignored) {
+            // The new generation is committed, leftover segments are discarded the next time the store is opened
+        }
+    }
+
+    /**
+     * Forces all written snapshots to be stored on disk.
+     */
+    public synchronized void flush() {
+        for (final Segment segment : current.segments)
+            segment.flush();
+    }
+
+    /**
+     * Flushes and closes all segment files.
+     *
+     * @throws IOException if a segment could not be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+
+        closed = true;
+        for (final Segment segment : current.segments)
+            segment.close();
+        current.segments.clear();
+        current.index.clear();
+        current.latest.clear();
+    }
+
+    private void append(final Generation generation, final ByteBuffer encoded, final SnapshotRecord snapshot) throws IOException {
+        Segment segment = generation.segments.isEmpty() ? null : generation.segments.get(generation.segments.size() - 1);
+        if (segment == null || !segment.fits(encoded.remaining())) {
+            segment = createSegment(generation.id, encoded.remaining());
+            generation.segments.add(segment);
+        }
+
+        final int offset = segment.append(encoded);
+        generation.index.computeIfAbsent(snapshot.owner(), owner -> new ArrayList<>())
+            .add(new IndexEntry(snapshot.timestamp(), snapshot.keyframe(), segment, offset));
+        generation.latest.put(snapshot.owner(), snapshot.apply(generation.latest.get(snapshot.owner())));
+    }
+
+    /**
+     * Closes and deletes all segments of the generation, attempting every segment before throwing the first failure.
+     */
+    private static void discard(final Generation generation) throws IOException {
+        IOException failure = null;
+        for (final Segment segment : generation.segments) {
+            try {
+                segment.close();
+                Files.deleteIfExists(segment.getPath());
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null)
+            throw failure;
+    }
+
+    private void indexRecord(final Segment segment, final int offset) {
+        final ByteBuffer buffer = segment.read(offset);
+        final UUID owner = SnapshotRecord.readOwner(buffer);
+        current.index.computeIfAbsent(owner, key -> new ArrayList<>())
+            .add(new IndexEntry(SnapshotRecord.readTimestamp(buffer), SnapshotRecord.readKeyframe(buffer), segment, offset));
+    }
+
+    private @Nullable SlotState @Nullable [] stateAt(final UUID owner, final long time) {
+        final List<IndexEntry> entries = current.index.getOrDefault(owner, List.of());
+
+        int last = -1;
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            if (entries.get(i).timestamp() <= time) {
+                last = i;
+                break;
+            }
+        }
+        return last == -1 ? null : replay(entries, last);
+    }
+
+    /**
+     * Reconstructs the state at the entry, starting from the closest preceding keyframe.
+     */
+    private @Nullable SlotState @NotNull [] replay(final List<IndexEntry> entries, final int last) {
+        int first = last;
+        while (first > 0 && !entries.get(first).keyframe())
+            first--;
+
+        SlotState[] state = null;
+        for (int i = first; i <= last; i++) {
+            final IndexEntry entry = entries.get(i);
+            state = SnapshotRecord.decode(entry.segment().read(entry.offset())).apply(state);
+        }
+        return Objects.requireNonNull(state);
+    }
+
+    private @Nullable SlotState toState(final @Nullable ItemStack item) {
+        if (item == null || item.getType() == Material.AIR)
+            return null;
+
+        final String itemId = ItemUtils.parse(item);
+        final @Nullable ItemStack template = template(itemId);
+        final boolean isTemplate = template != null && template.isSimilar(item);
+        return new SlotState(itemId, item.getAmount(), isTemplate ? null : item.serializeAsBytes());
+    }
+
+    private @Nullable ItemStack toItem(final @Nullable SlotState state) {
+        if (state == null)
+            return null;
+
+        final @Nullable ItemStack item;
+        if (state.serialized() != null) {
+            item = ItemStack.deserializeBytes(state.serialized());
+        } else {
+            final @Nullable ItemStack template = template(state.itemId());
+            item = template == null ? null : template.clone();
+        }
+
+        if (item != null)
+            item.setAmount(state.amount());
+        return item;
+    }
+
+    private @Nullable ItemStack template(final String itemId) {
+        final @Nullable ItemStack cached = templates.get(itemId);
+        if (cached != null)
+            return cached;
+
+        // Misses are not cached, the item may exist once its provider has loaded its items
+        final @Nullable ItemStack parsed = ItemUtils.parse(itemId);
+        if (parsed != null)
+            templates.put(itemId, parsed);
+        return parsed;
+    }
+
+    private Segment createSegment(final long generation, final int minimumRecordLength) throws IOException {
+        final int capacity = Math.max(segmentSize, minimumRecordLength + Integer.BYTES * 6);
+        final int id = nextSegmentId++;
+        return Segment.create(directory.resolve("%s%08d%s".formatted(SEGMENT_PREFIX, id, SEGMENT_SUFFIX)), id, generation, capacity);
+    }
+
+    /**
+     * Durably replaces the generation file, a crash leaves either the previous or the new generation in place.
+     */
+    private void writeGeneration(final long generation) throws IOException {
+        final Path temporary = directory.resolve(GENERATION_FILE + ".tmp");
+        try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(Long.toString(generation).getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(GENERATION_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("Snapshot store is closed");
+    }
+
+    private static int parseSegmentId(final Path path) throws IOException {
+        final String name = path.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid segment file name: " + name, e);
+        }
+    }
+
+    private static long parseGeneration(final Path path) throws IOException {
+        final String content = Files.readString(path, StandardCharsets.US_ASCII).trim();
+        try {
+            return Long.parseLong(content);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid generation file: " + path, e);
+        }
+    }
+
+    /**
+     * The segments and index of one generation of the store. Compaction builds a new generation next to the
+     * current one and swaps it in once it has been written.
+     */
+    private static final class Generation {
+        private final long id;
+        private final List<Segment> segments = new ArrayList<>();
+        private final Map<UUID, List<IndexEntry>> index = new HashMap<>();
+        private final Map<UUID, SlotState[]> latest = new HashMap<>();
+
+        private Generation(final long id) {
+            this.id = id;
+        }
+    }
+
+    private record IndexEntry(long timestamp, boolean keyframe, Segment segment, int offset) {
+    }
+
+    /**
+     * A builder for {@link SnapshotStore}'s.
+     */
+    public static final class Builder {
+        private final Path directory;
+        private int segmentSize = 8 * 1024 * 1024;
+        private int keyframeInterval = 32;
+
+        private Builder(final @NotNull Path directory) {
+            this.directory = Objects.requireNonNull(directory, "Directory cannot be null");
+        }
+
+        /**
+         * Set the size of newly created segment files. Defaults to 8 MiB.
+         *
+         * @param segmentSize the segment size in bytes
+         * @return this builder
+         */
+        public @NotNull Builder segmentSize(final int segmentSize) {
+            if (segmentSize < 1024)
+                throw new IllegalArgumentException("Segment size must be at least 1024 bytes");
+
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Set how often a full keyframe is written instead of a delta. Defaults to every 32 snapshots.
+         * Lower values make restoring faster at the cost of disk space.
+         *
+         * @param keyframeInterval the amount of snapshots between keyframes
+         * @return this builder
+         */
+        public @NotNull Builder keyframeInterval(final int keyframeInterval) {
+            if (keyframeInterval < 1)
+                throw new IllegalArgumentException("Keyframe interval must be at least 1");
+
+            this.keyframeInterval = keyframeInterval;
+            return this;
+        }
+
+        /**
+         * Opens the store, creating the directory if needed and indexing existing segment files.
+         *
+         * @return the snapshot store
+         * @throws IOException if the directory or a segment file could not be opened
+         */
+        public @NotNull SnapshotStore build() throws IOException {
+            return new SnapshotStore(this);
+        }
+    }
+}
\ No newline at end of file
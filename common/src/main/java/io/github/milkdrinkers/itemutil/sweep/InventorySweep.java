@@ -0,0 +1,264 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.sweep;
+
+import io.github.milkdrinkers.itemutil.concurrent.RegionExecutor;
+import org.bukkit.Bukkit;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.BlockInventoryHolder;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * An {@link InventorySweep} applies a {@link SweepOperation} to many inventory
+ * holders, spreading the work over multiple ticks so no single tick exceeds
+ * the configured time budget.
+ *
+ * <pre>{@code
+ * InventorySweep.builder(plugin, Bukkit.getOnlinePlayers(), SweepOperation.clear("nexo:event_token"))
+ *     .budget(Duration.ofMillis(2))
+ *     .build()
+ *     .start()
+ *     .thenAccept(metrics -> getLogger().info("Removed %d tokens".formatted(metrics.affectedItems())));
+ * }</pre>
+ *
+ * @apiNote Sweeps run on the main thread using the Bukkit scheduler. On Folia use {@link RegionExecutor#runAll(Collection, Consumer)} instead.
+ * Holders that are no longer valid when their turn comes, like players that logged out, removed entities and blocks in
+ * unloaded chunks, are skipped and reported in {@link SweepMetrics#skipped()}.
+ */
+@SuppressWarnings("unused")
+public final class InventorySweep {
+    private final Plugin plugin;
+    private final List<InventoryHolder> holders;
+    private final SweepOperation operation;
+    private final long budgetNanos;
+    private final @Nullable Consumer<SweepMetrics> progressListener;
+    private final CompletableFuture<SweepMetrics> future = new CompletableFuture<>();
+
+    private @Nullable BukkitTask task;
+    private int processed;
+    private int affectedHolders;
+    private long affectedItems;
+    private int failed;
+    private int skipped;
+    private int ticks;
+    private long busyNanos;
+    private long maxTickNanos;
+
+    private InventorySweep(final Builder builder) {
+        this.plugin = builder.plugin;
+        this.holders = List.copyOf(builder.holders);
+        this.operation = builder.operation;
+        this.budgetNanos = builder.budget.toNanos();
+        this.progressListener = builder.progressListener;
+    }
+
+    /**
+     * Creates a new {@link Builder} for a sweep.
+     *
+     * @param plugin    the plugin owning the sweep task
+     * @param holders   the inventory holders to sweep
+     * @param operation the operation applied to every holder
+     * @return a builder
+     */
+    public static @NotNull Builder builder(final @NotNull Plugin plugin, final @NotNull Collection<? extends InventoryHolder> holders, final @NotNull SweepOperation operation) {
+        return new Builder(plugin, holders, operation);
+    }
+
+    /**
+     * Starts the sweep on the next tick.
+     *
+     * @return a future completed with the final metrics once every holder has been processed
+     * @throws IllegalStateException if the sweep was already started
+     * @apiNote Cancelling the future stops the sweep.
+     */
+    public synchronized @NotNull CompletableFuture<SweepMetrics> start() {
+        if (task != null || future.isDone())
+            throw new IllegalStateException("Sweep was already started");
+
+        if (holders.isEmpty()) {
+            future.complete(getMetrics());
+            return future;
+        }
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        future.whenComplete((metrics, throwable) -> stop());
+        return future;
+    }
+
+    /**
+     * Stops the sweep, cancelling its future if it has not completed yet.
+     */
+    public void cancel() {
+        future.cancel(false);
+    }
+
+    /**
+     * Gets the current progress and metrics of this sweep.
+     *
+     * @return a metrics snapshot
+     */
+    public synchronized @NotNull SweepMetrics getMetrics() {
+        return new SweepMetrics(holders.size(), processed, affectedHolders, affectedItems, failed, skipped, ticks, Duration.ofNanos(busyNanos), Duration.ofNanos(maxTickNanos));
+    }
+
+    private void tick() {
+        final SweepMetrics metrics;
+        synchronized (this) {
+            if (future.isDone()) {
+                stop();
+                return;
+            }
+
+            final long start = System.nanoTime();
+            long elapsed = 0;
+            // Always process at least one holder, so a tiny budget still makes progress
+            while (processed < holders.size()) {
+                final InventoryHolder holder = holders.get(processed++);
+                if (isValid(holder)) {
+                    apply(holder);
+                } else {
+                    skipped++;
+                }
+
+                elapsed = System.nanoTime() - start;
+                if (elapsed >= budgetNanos)
+                    break;
+            }
+
+            ticks++;
+            busyNanos += elapsed;
+            maxTickNanos = Math.max(maxTickNanos, elapsed);
+            metrics = getMetrics();
+        }
+
+        // Completed before notifying the listener, so a failing listener can not keep the sweep running
+        if (metrics.isComplete())
+            future.complete(metrics);
+
+        if (progressListener != null) {
+            try {
+                progressListener.accept(metrics);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Inventory sweep progress listener failed", e);
+            }
+        }
+    }
+
+    private void apply(final InventoryHolder holder) {
+        try {
+            final int affected = operation.apply(holder);
+            if (affected > 0) {
+                affectedHolders++;
+                affectedItems += affected;
+            }
+        } catch (Exception e) {
+            failed++;
+            plugin.getLogger().log(Level.WARNING, "Inventory sweep operation failed for " + holder, e);
+        }
+    }
+
+    /**
+     * Check if the holder can still be swept, without loading any chunk.
+     */
+    private static boolean isValid(final InventoryHolder holder) {
+        if (holder instanceof Player player)
+            return player.isOnline();
+        if (holder instanceof Entity entity)
+            return entity.isValid();
+        if (holder instanceof BlockInventoryHolder blockHolder) {
+            final Block block = blockHolder.getBlock();
+            return block.getWorld().isChunkLoaded(block.getX() >> 4, block.getZ() >> 4);
+        }
+        return true;
+    }
+
+    private synchronized void stop() {
+        if (task != null)
+            task.cancel();
+    }
+
+    /**
+     * A builder for {@link InventorySweep}'s.
+     */
+    public static final class Builder {
+        private final Plugin plugin;
+        private final Collection<? extends InventoryHolder> holders;
+        private final SweepOperation operation;
+        private Duration budget = Duration.ofMillis(2);
+        private @Nullable Consumer<SweepMetrics> progressListener;
+
+        private Builder(final @NotNull Plugin plugin, final @NotNull Collection<? extends InventoryHolder> holders, final @NotNull SweepOperation operation) {
+            this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null");
+            this.holders = Objects.requireNonNull(holders, "Holders cannot be null");
+            this.operation = Objects.requireNonNull(operation, "Operation cannot be null");
+        }
+
+        /**
+         * Set the time the sweep may spend per tick. Defaults to 2 milliseconds.
+         *
+         * @param budget the time budget per tick
+         * @return this builder
+         */
+        public @NotNull Builder budget(final @NotNull Duration budget) {
+            if (budget.isNegative() || budget.isZero())
+                throw new IllegalArgumentException("Budget must be positive");
+
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Set a listener called on the main thread with the current metrics after every tick the sweep runs in.
+         * On the final tick the listener is called after the future of the sweep has completed.
+         *
+         * @param progressListener the progress listener
+         * @return this builder
+         */
+        public @NotNull Builder onProgress(final @NotNull Consumer<SweepMetrics> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * Builds the sweep. The sweep does not run until {@link InventorySweep#start()} is called.
+         *
+         * @return an inventory sweep
+         */
+        public @NotNull InventorySweep build() {
+            return new InventorySweep(this);
+        }
+    }
+}
\ No newline at end of file
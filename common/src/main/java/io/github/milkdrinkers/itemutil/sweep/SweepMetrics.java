@@ -0,0 +1,69 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.sweep;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * The progress and metrics of an {@link InventorySweep} at a point in time.
+ *
+ * @param total           the total amount of holders in the sweep
+ * @param processed       the amount of holders processed so far
+ * @param affectedHolders the amount of processed holders where the operation affected at least one item
+ * @param affectedItems   the total amount of items affected by the operation
+ * @param failed          the amount of holders where the operation threw an exception
+ * @param skipped         the amount of holders skipped because they were no longer valid, like offline players or unloaded blocks
+ * @param ticks           the amount of ticks the sweep has run in
+ * @param busyTime        the total time spent running the operation
+ * @param maxTickTime     the longest time spent running the operation within a single tick
+ */
+public record SweepMetrics(
+    int total,
+    int processed,
+    int affectedHolders,
+    long affectedItems,
+    int failed,
+    int skipped,
+    int ticks,
+    @NotNull Duration busyTime,
+    @NotNull Duration maxTickTime
+) {
+    /**
+     * Gets the fraction of processed holders, between {@code 0} and {@code 1}.
+     *
+     * @return progress
+     */
+    public double progress() {
+        return total == 0 ? 1D : (double) processed / total;
+    }
+
+    /**
+     * Check whether every holder has been processed. Skipped holders count as processed.
+     *
+     * @return boolean
+     */
+    public boolean isComplete() {
+        return processed >= total;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.sweep;
+
+import io.github.milkdrinkers.itemutil.InventoryUtils;
+import io.github.milkdrinkers.itemutil.ItemMatcher;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link SweepOperation} is applied to every inventory holder of an {@link InventorySweep}.
+ */
+@FunctionalInterface
+public interface SweepOperation {
+    /**
+     * Applies this operation to the inventory holder.
+     *
+     * @param holder the inventory holder
+     * @return the amount of items affected
+     */
+    int apply(@NotNull InventoryHolder holder);
+
+    /**
+     * Creates an operation clearing all instances of the item. The item id is resolved once for the whole sweep.
+     *
+     * @param itemId the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @return an operation
+     * @see InventoryUtils#clear(InventoryHolder, ItemMatcher)
+     */
+    static @NotNull SweepOperation clear(final @NotNull String itemId) {
+        final ItemMatcher matcher = ItemMatcher.exact(itemId);
+        return holder -> InventoryUtils.clear(holder, matcher);
+    }
+
+    /**
+     * Creates an operation removing the specified amount of the item. The item id is resolved once for the whole sweep.
+     *
+     * @param itemId the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @param amount the amount to remove from every holder
+     * @return an operation
+     * @see InventoryUtils#removeMatching(InventoryHolder, java.util.function.Predicate, int)
+     */
+    static @NotNull SweepOperation remove(final @NotNull String itemId, final int amount) {
+        final ItemMatcher matcher = ItemMatcher.exact(itemId);
+        return holder -> amount - InventoryUtils.removeMatching(holder, matcher, amount);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,325 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.template;
+
+import io.github.milkdrinkers.itemutil.BoundedCache;
+import io.github.milkdrinkers.itemutil.ItemUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link ItemTemplate} is a precompiled item definition consisting
+ * of an item id, a display name and lore. Lines which contain
+ * placeholders in the format of {@code {placeholder}} are resolved
+ * at render time, every other line is decorated once when the template is built.
+ *
+ * <pre>{@code
+ * ItemTemplate template = ItemTemplate.builder("nexo:coin_pouch")
+ *     .name(Component.text("Coin Pouch"))
+ *     .lore(Component.text("Balance: {balance}"), Component.text("Right click to open"))
+ *     .placeholders("balance")
+ *     .build();
+ *
+ * ItemStack item = template.render("1,250");
+ * }</pre>
+ *
+ * @apiNote Rendered items are memoized per combination of placeholder values, so rendering
+ * the same values repeatedly only costs a cache lookup and a clone.
+ */
+@SuppressWarnings("unused")
+public final class ItemTemplate {
+    private final String itemId;
+    private final ItemStack prototype;
+    private final List<String> placeholders;
+    private final Map<String, Integer> placeholderSlots;
+    private final @Nullable Pattern pattern;
+    private final @Nullable Component name;
+    private final boolean dynamicName;
+    private final List<Component> lore;
+    private final boolean[] dynamicLore;
+    private final boolean anyDynamicLore;
+    private final boolean dynamic;
+    private final BoundedCache<List<String>, ItemStack> cache;
+
+    private ItemTemplate(final Builder builder, final ItemStack item) {
+        this.itemId = builder.itemId;
+        this.placeholders = List.copyOf(builder.placeholders);
+
+        final Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < placeholders.size(); i++)
+            slots.put(placeholders.get(i), i);
+        this.placeholderSlots = Map.copyOf(slots);
+
+        this.pattern = placeholders.isEmpty() ? null : Pattern.compile(placeholders.stream()
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|", "\\{(", ")\\}"))
+        );
+
+        // Decorate every component once, instead of once per render
+        this.name = builder.name == null ? null : builder.name.decoration(TextDecoration.ITALIC, false);
+        this.dynamicName = name != null && containsPlaceholder(name);
+        this.lore = builder.lore == null ? List.of() : builder.lore.stream()
+            .map(loreEntry -> loreEntry.decoration(TextDecoration.ITALIC, false))
+            .toList();
+        this.dynamicLore = new boolean[lore.size()];
+        boolean anyDynamic = false;
+        for (int i = 0; i < lore.size(); i++) {
+            dynamicLore[i] = containsPlaceholder(lore.get(i));
+            anyDynamic |= dynamicLore[i];
+        }
+        this.anyDynamicLore = anyDynamic;
+        this.dynamic = dynamicName || anyDynamicLore;
+
+        // Apply the static parts to the prototype, so renders only touch the dynamic parts
+        final boolean staticName = name != null && !dynamicName;
+        final boolean staticLore = builder.lore != null && !anyDynamicLore;
+        if (staticName || staticLore) {
+            item.editMeta(itemMeta -> {
+                if (staticName)
+                    itemMeta.displayName(name);
+                if (staticLore)
+                    itemMeta.lore(lore);
+            });
+        }
+        this.prototype = item;
+        this.cache = new BoundedCache<>(builder.cacheSize);
+    }
+
+    /**
+     * Creates a new {@link Builder} for the item id.
+     *
+     * @param itemId the item id (supports namespaced custom items from item plugins like nexo, itemsadder, etc)
+     * @return a builder
+     */
+    public static @NotNull Builder builder(final @NotNull String itemId) {
+        return new Builder(itemId);
+    }
+
+    /**
+     * Gets the item id this template was built from.
+     *
+     * @return item id
+     */
+    public @NotNull String getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Gets the placeholders of this template, in the order values are passed to {@link #render(String...)}.
+     *
+     * @return list of placeholder names
+     */
+    public @NotNull List<String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * Check whether this template contains lines with placeholders.
+     *
+     * @return boolean
+     */
+    public boolean isDynamic() {
+        return dynamic;
+    }
+
+    /**
+     * Renders this template into a new item stack.
+     *
+     * @param values the placeholder values, in the same order as {@link #getPlaceholders()}
+     * @return a new item stack
+     * @throws IllegalArgumentException if the amount of values does not match the amount of placeholders
+     */
+    public @NotNull ItemStack render(final @NotNull String... values) {
+        if (values.length != placeholders.size())
+            throw new IllegalArgumentException("Expected %d placeholder values but got %d".formatted(placeholders.size(), values.length));
+
+        if (!dynamic)
+            return prototype.clone();
+
+        return cache.get(List.of(values), this::renderUncached).clone();
+    }
+
+    /**
+     * Renders this template into a new item stack.
+     *
+     * @param values a map of placeholder names to values
+     * @return a new item stack
+     * @throws IllegalArgumentException if a placeholder value is missing
+     */
+    public @NotNull ItemStack render(final @NotNull Map<String, String> values) {
+        final String[] orderedValues = new String[placeholders.size()];
+        for (int i = 0; i < orderedValues.length; i++) {
+            final @Nullable String value = values.get(placeholders.get(i));
+            if (value == null)
+                throw new IllegalArgumentException("Missing value for placeholder: " + placeholders.get(i));
+
+            orderedValues[i] = value;
+        }
+        return render(orderedValues);
+    }
+
+    /**
+     * Removes all memoized renders of this template.
+     */
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+
+    private ItemStack renderUncached(final List<String> values) {
+        final TextReplacementConfig replacement = TextReplacementConfig.builder()
+            .match(Objects.requireNonNull(pattern))
+            .replacement((result, builder) -> builder.content(values.get(placeholderSlots.get(result.group(1)))))
+            .build();
+
+        final ItemStack item = prototype.clone();
+        item.editMeta(itemMeta -> {
+            if (dynamicName)
+                itemMeta.displayName(Objects.requireNonNull(name).replaceText(replacement));
+
+            if (anyDynamicLore) {
+                final List<Component> renderedLore = new ArrayList<>(lore.size());
+                for (int i = 0; i < lore.size(); i++)
+                    renderedLore.add(dynamicLore[i] ? lore.get(i).replaceText(replacement) : lore.get(i));
+                itemMeta.lore(renderedLore);
+            }
+        });
+        return item;
+    }
+
+    private boolean containsPlaceholder(final Component component) {
+        if (pattern == null)
+            return false;
+
+        if (component instanceof TextComponent textComponent && pattern.matcher(textComponent.content()).find())
+            return true;
+
+        for (final Component child : component.children()) {
+            if (containsPlaceholder(child))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * A builder for {@link ItemTemplate}'s.
+     */
+    public static final class Builder {
+        private final String itemId;
+        private @Nullable Component name;
+        private @Nullable List<Component> lore;
+        private final List<String> placeholders = new ArrayList<>();
+        private int cacheSize = 256;
+
+        private Builder(final @NotNull String itemId) {
+            this.itemId = Objects.requireNonNull(itemId, "Item id cannot be null");
+        }
+
+        /**
+         * Set the display name of the template.
+         *
+         * @param name the display name
+         * @return this builder
+         * @apiNote The name is set stripping italic decoration on the component.
+         */
+        public @NotNull Builder name(final @NotNull Component name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Set the lore of the template.
+         *
+         * @param lore the lore
+         * @return this builder
+         * @apiNote The lore is set stripping italic decoration on the components.
+         */
+        public @NotNull Builder lore(final @NotNull Collection<Component> lore) {
+            this.lore = List.copyOf(lore);
+            return this;
+        }
+
+        /**
+         * Set the lore of the template.
+         *
+         * @param lore the lore
+         * @return this builder
+         * @apiNote The lore is set stripping italic decoration on the components.
+         */
+        public @NotNull Builder lore(final @NotNull Component... lore) {
+            return lore(Arrays.asList(lore));
+        }
+
+        /**
+         * Declare placeholders used in the name or lore. A placeholder named {@code balance} is written as {@code {balance}}.
+         *
+         * @param placeholders the placeholder names
+         * @return this builder
+         */
+        public @NotNull Builder placeholders(final @NotNull String... placeholders) {
+            for (final String placeholder : placeholders) {
+                if (this.placeholders.contains(placeholder))
+                    throw new IllegalArgumentException("Duplicate placeholder: " + placeholder);
+
+                this.placeholders.add(placeholder);
+            }
+            return this;
+        }
+
+        /**
+         * Set the maximum amount of memoized renders. Defaults to {@code 256}.
+         *
+         * @param cacheSize the maximum amount of memoized renders, {@code 0} disables memoization
+         * @return this builder
+         */
+        public @NotNull Builder cacheSize(final int cacheSize) {
+            if (cacheSize < 0)
+                throw new IllegalArgumentException("Cache size cannot be negative");
+
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * Builds the template, resolving the item id once.
+         *
+         * @return the item template
+         * @throws IllegalArgumentException if the item id cannot be parsed into an item stack
+         * @see ItemUtils#parse(String)
+         */
+        public @NotNull ItemTemplate build() {
+            final @Nullable ItemStack item = ItemUtils.parse(itemId);
+            if (item == null)
+                throw new IllegalArgumentException("Unknown item id: " + itemId);
+
+            return new ItemTemplate(this, item);
+        }
+    }
+}
\ No newline at end of file
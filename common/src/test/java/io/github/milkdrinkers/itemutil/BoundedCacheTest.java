@@ -0,0 +1,86 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        // Reading a makes b the least recently used entry
+        assertEquals(1, cache.get("a"));
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void computesOnlyMissingValues() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+        final AtomicInteger computations = new AtomicInteger();
+
+        assertEquals(1, cache.get("a", key -> computations.incrementAndGet()));
+        assertEquals(1, cache.get("a", key -> computations.incrementAndGet()));
+        assertEquals(1, computations.get());
+
+        // Null results are not cached
+        assertNull(cache.get("b", key -> null));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void invalidatesEntries() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void zeroSizeDisablesCaching() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(0);
+        cache.put("a", 1);
+
+        assertEquals(0, cache.getMaximumSize());
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.get("a", key -> 2));
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(-1));
+    }
+}
\ No newline at end of file
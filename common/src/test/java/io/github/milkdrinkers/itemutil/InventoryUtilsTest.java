@@ -0,0 +1,183 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import io.github.milkdrinkers.itemutil.testkit.Budgets;
+import io.github.milkdrinkers.itemutil.testkit.FakeInventory;
+import io.github.milkdrinkers.itemutil.testkit.FakeItemIntegration;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import org.bukkit.Material;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryUtilsTest {
+    private FakeItemIntegration nexo;
+    private FakeInventory inventory;
+    private InventoryHolder holder;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        nexo = FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+        inventory = FakeInventory.of(
+            new ItemStack(Material.STONE, 10),
+            new ItemStack(Material.EMERALD, 5),
+            new ItemStack(Material.STONE, 3),
+            new ItemStack(Material.DIRT, 1)
+        );
+        holder = inventory.getHolder();
+    }
+
+    @Test
+    void itemIdsMatchExactly() {
+        assertEquals(13, InventoryUtils.countItems(holder, "minecraft:stone"));
+        assertEquals(0, InventoryUtils.countItems(holder, "stone"));
+        assertEquals(5, InventoryUtils.countItems(holder, "nexo:ruby"));
+        assertEquals(0, InventoryUtils.countItems(holder, "ruby"));
+        assertEquals(0, InventoryUtils.countItems(holder, "minecraft:emerald"));
+
+        assertTrue(InventoryUtils.contains(holder, "minecraft:stone", 13));
+        assertFalse(InventoryUtils.contains(holder, "stone"));
+        assertEquals(2, InventoryUtils.first(holder, "minecraft:stone", 3));
+        assertEquals(-1, InventoryUtils.first(holder, "stone", 3));
+        assertEquals(2, InventoryUtils.all(holder, "minecraft:stone").size());
+        assertTrue(InventoryUtils.all(holder, "stone").isEmpty());
+
+        InventoryUtils.clear(holder, "dirt");
+        assertEquals(1, InventoryUtils.countItems(holder, Material.DIRT));
+        InventoryUtils.clear(holder, "minecraft:dirt");
+        assertEquals(0, InventoryUtils.countItems(holder, Material.DIRT));
+    }
+
+    @Test
+    void matchersMatchLoosely() {
+        assertEquals(13, InventoryUtils.countItems(holder, ItemMatcher.of("stone")));
+        assertEquals(5, InventoryUtils.countItems(holder, ItemMatcher.of("nexo:ruby")));
+        assertEquals(0, InventoryUtils.countItems(holder, ItemMatcher.exact("stone")));
+        assertEquals(13, InventoryUtils.countItems(holder, ItemMatcher.exact("minecraft:stone")));
+    }
+
+    @Test
+    void removeItemReportsLeftoverByArgumentIndex() {
+        assertEquals(Map.of(), InventoryUtils.removeItem(holder, "minecraft:stone", 12));
+        assertEquals(1, InventoryUtils.countItems(holder, "minecraft:stone"));
+
+        final Map<Integer, ItemStack> leftover = InventoryUtils.removeItem(holder, "minecraft:stone", 4);
+        assertEquals(Set.of(0), leftover.keySet());
+        assertEquals(Material.STONE, leftover.get(0).getType());
+        assertEquals(3, leftover.get(0).getAmount());
+        assertEquals(0, InventoryUtils.countItems(holder, "minecraft:stone"));
+
+        // Nothing left to copy the leftover from, so it is parsed from the item id
+        final Map<Integer, ItemStack> parsed = InventoryUtils.removeItem(holder, "nexo:ruby", 8);
+        assertEquals(Material.EMERALD, parsed.get(0).getType());
+        assertEquals(3, parsed.get(0).getAmount());
+        assertEquals(2, InventoryUtils.removeItem(holder, "nexo:ruby", 2).get(0).getAmount());
+
+        // An item id that can't be parsed still reports the amount that couldn't be removed
+        final Map<Integer, ItemStack> missing = InventoryUtils.removeItem(holder, "nexo:missing", 4);
+        assertEquals(Material.AIR, missing.get(0).getType());
+        assertEquals(4, missing.get(0).getAmount());
+    }
+
+    @Test
+    void removeMatchingReturnsRemainingAmount() {
+        assertEquals(0, InventoryUtils.removeMatching(holder, ItemMatcher.exact("minecraft:stone"), 11));
+        assertEquals(2, InventoryUtils.countItems(holder, "minecraft:stone"));
+        assertEquals(3, InventoryUtils.removeMatching(holder, ItemMatcher.exact("minecraft:stone"), 5));
+        assertEquals(4, InventoryUtils.removeMatching(holder, ItemMatcher.exact("nexo:missing"), 4));
+        assertEquals(0, InventoryUtils.countItems(holder, "minecraft:stone"));
+    }
+
+    @Test
+    void removeMatchingRemovesItemSetsInSlotOrder() {
+        final ItemSet items = ItemSet.builder().materials(Material.STONE, Material.DIRT).build();
+
+        assertEquals(0, InventoryUtils.removeMatching(holder, items, 12));
+        assertEquals(1, InventoryUtils.countItems(holder, Material.STONE));
+        assertEquals(1, InventoryUtils.countItems(holder, Material.DIRT));
+        assertEquals(2, InventoryUtils.removeMatching(holder, SlotView.range(3, 4), items, 3));
+        assertEquals(1, InventoryUtils.countItems(holder, Material.STONE));
+        assertEquals(0, InventoryUtils.countItems(holder, Material.DIRT));
+    }
+
+    @Test
+    void viewsScopePredicates() {
+        final SlotView view = SlotView.range(2, 4);
+        final ItemMatcher stone = ItemMatcher.exact("minecraft:stone");
+
+        assertEquals(3, InventoryUtils.countItems(holder, view, stone));
+        assertEquals(3, InventoryUtils.countItems(holder, view, stone, Traversal.NESTED));
+        assertTrue(InventoryUtils.contains(holder, view, stone, 3));
+        assertFalse(InventoryUtils.contains(holder, view, stone, 4, Traversal.NESTED));
+        assertEquals(2, InventoryUtils.first(holder, view, stone));
+        assertEquals(Set.of(2), InventoryUtils.all(holder, view, stone).keySet());
+        assertEquals(1, InventoryUtils.findItems(holder, view, stone, Traversal.NESTED).size());
+        assertEquals(3, InventoryUtils.histogram(holder, view).get("minecraft:stone"));
+
+        assertEquals(1, InventoryUtils.clear(holder, view, ItemMatcher.exact("minecraft:dirt")));
+        assertEquals(3, InventoryUtils.clear(holder, view));
+        assertEquals(10, InventoryUtils.countItems(holder, "minecraft:stone"));
+    }
+
+    @Test
+    void resolvesEachSlotAtMostOnce() {
+        // Four occupied slots, so no operation may ask the provider more than four times
+        Budgets.assertCallsAtMost(nexo, 4, () -> assertEquals(5, InventoryUtils.countItems(holder, "nexo:ruby")));
+        Budgets.assertCallsAtMost(nexo, 3, () -> assertEquals(14, InventoryUtils.countItems(holder, ItemSet.of("minecraft:stone", "minecraft:dirt"))));
+        Budgets.assertCallsAtMost(nexo, 4, () -> assertEquals(3, InventoryUtils.histogram(holder).asMap().size()));
+        // Vanilla item ids only ask the provider about stacks of their material
+        Budgets.assertCallsAtMost(nexo, 2, () -> assertEquals(13, InventoryUtils.countItems(holder, "minecraft:stone")));
+        // The scan stops at the first slot holding enough stone
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertTrue(InventoryUtils.contains(holder, "minecraft:stone", 10)));
+        Budgets.assertCallsAtMost(nexo, 4, () -> assertFalse(InventoryUtils.contains(holder, ItemMatcher.exact("nexo:ruby"), 6)));
+        Budgets.assertCallsAtMost(nexo, 2, () -> assertEquals(Map.of(), InventoryUtils.removeItem(holder, "nexo:ruby", 5)));
+        // Nothing left to copy the leftover from, so the item id is resolved once more
+        Budgets.assertCallsAtMost(nexo, 5, () -> assertEquals(1, InventoryUtils.removeItem(holder, "nexo:ruby", 1).get(0).getAmount()));
+    }
+
+    @Test
+    void readsContentsAtMostOnce() {
+        Budgets.assertCallsAtMost(inventory, "getContents", 1, () -> InventoryUtils.countItems(holder, "minecraft:stone"));
+        Budgets.assertCallsAtMost(inventory, "getContents", 1, () -> InventoryUtils.contains(holder, "nexo:ruby", 5, Traversal.NESTED));
+        Budgets.assertCallsAtMost(inventory, "getContents", 1, () -> InventoryUtils.removeItem(holder, "minecraft:stone", 12));
+        Budgets.assertCallsAtMost(inventory, "getContents", 1, () -> InventoryUtils.histogram(holder));
+        // Other views read their slots one by one
+        Budgets.assertCallsAtMost(inventory, "getContents", 0, () -> InventoryUtils.countItems(holder, SlotView.range(0, 2), ItemMatcher.exact("nexo:ruby")));
+        Budgets.assertCallsAtMost(inventory, "getItem", 2, () -> InventoryUtils.countItems(holder, SlotView.range(0, 2), ItemMatcher.exact("nexo:ruby")));
+    }
+
+    @Test
+    void containsWithMatcherStaysWithinAllocationBudget() {
+        final ItemMatcher stone = ItemMatcher.exact("minecraft:stone");
+
+        // A view scan with a prepared matcher only allocates its visitors, not a copy of the contents
+        Budgets.assertAllocatesAtMost(1024, () -> InventoryUtils.contains(holder, SlotView.HOTBAR, stone, 13));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import io.github.milkdrinkers.itemutil.testkit.FakeItemIntegration;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import io.github.milkdrinkers.itemutil.testkit.FakeServer;
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCatalogueTest {
+    private final ItemCatalogue catalogue = ItemCatalogue.getInstance();
+    private FakeItemIntegration nexo;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        nexo = FakeProviders.install(ItemProvider.NEXO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogue.unregister();
+    }
+
+    @Test
+    void fallsBackToProviderUntilItemsAreLoaded() {
+        // Enabled, but the plugin populates its items later
+        catalogue.register(FakeServer.get().createPlugin("CatalogueTest"));
+        assertTrue(catalogue.isIndexed(ItemProvider.NEXO));
+        assertFalse(catalogue.covers(ItemProvider.NEXO, "nexo:ruby"));
+
+        nexo.register("ruby", Material.EMERALD);
+        assertTrue(ItemUtils.exists("nexo:ruby"));
+        assertEquals(1, nexo.getIsValidCalls());
+
+        nexo.loadItems();
+        assertTrue(catalogue.covers(ItemProvider.NEXO, "nexo:ruby"));
+        nexo.resetCalls();
+        assertTrue(ItemUtils.exists("nexo:ruby"));
+        assertFalse(ItemUtils.exists("nexo:sapphire"));
+        assertEquals(0, nexo.getIsValidCalls());
+        assertEquals(List.of("nexo:ruby"), catalogue.suggest("nexo:", 10));
+    }
+
+    @Test
+    void itemsLoadedEventReindexes() {
+        catalogue.register(FakeServer.get().createPlugin("CatalogueTest"));
+        nexo.register("ruby", Material.EMERALD).loadItems();
+
+        nexo.register("sapphire", Material.DIAMOND);
+        assertFalse(ItemUtils.exists("nexo:sapphire"));
+
+        nexo.loadItems();
+        assertTrue(ItemUtils.exists("nexo:sapphire"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import io.github.milkdrinkers.itemutil.testkit.Budgets;
+import io.github.milkdrinkers.itemutil.testkit.FakeItemIntegration;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemMatcherTest {
+    private FakeItemIntegration nexo;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        nexo = FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+    }
+
+    @Test
+    void exactMatchersOnlyAcceptTheParsedItemId() {
+        final ItemStack stone = new ItemStack(Material.STONE);
+        final ItemStack ruby = new ItemStack(Material.EMERALD);
+
+        assertTrue(ItemMatcher.exact("minecraft:stone").test(stone));
+        assertFalse(ItemMatcher.exact("stone").test(stone));
+        assertFalse(ItemMatcher.exact("minecraft:STONE").test(stone));
+        assertTrue(ItemMatcher.exact("nexo:ruby").test(ruby));
+        assertFalse(ItemMatcher.exact("nexo:sapphire").test(ruby));
+        assertTrue(ItemMatcher.exact("stone").isExact());
+    }
+
+    @Test
+    void looseMatchersAcceptAnySpelling() {
+        final ItemStack stone = new ItemStack(Material.STONE);
+
+        assertTrue(ItemMatcher.of("stone").test(stone));
+        assertTrue(ItemMatcher.of("minecraft:stone").test(stone));
+        assertTrue(ItemMatcher.of("nexo:ruby").test(new ItemStack(Material.EMERALD)));
+        assertFalse(ItemMatcher.of("stone").isExact());
+        assertFalse(ItemMatcher.of("stone").test(null));
+    }
+
+    @Test
+    void vanillaMatchersRejectCustomItems() {
+        final ItemMatcher emerald = ItemMatcher.exact("minecraft:emerald");
+
+        assertEquals(ItemProvider.VANILLA, emerald.getProvider());
+        assertFalse(emerald.test(new ItemStack(Material.EMERALD)));
+
+        nexo.unregister("ruby");
+        assertTrue(emerald.test(new ItemStack(Material.EMERALD)));
+    }
+
+    @Test
+    void resolvesItemIdOnceAndItemStacksOncePerTest() {
+        final ItemMatcher[] matchers = new ItemMatcher[2];
+
+        // Creating a matcher only reads the namespace, it never asks the provider
+        Budgets.assertCallsAtMost(nexo, 0, () -> {
+            matchers[0] = ItemMatcher.exact("nexo:ruby");
+            matchers[1] = ItemMatcher.exact("minecraft:stone");
+        });
+
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertTrue(matchers[0].test(new ItemStack(Material.EMERALD))));
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertTrue(matchers[1].test(new ItemStack(Material.STONE))));
+        // Stacks of another material are rejected before asking any provider
+        Budgets.assertCallsAtMost(nexo, 0, () -> assertFalse(matchers[1].test(new ItemStack(Material.DIRT))));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import io.github.milkdrinkers.itemutil.testkit.Budgets;
+import io.github.milkdrinkers.itemutil.testkit.FakeItemIntegration;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemSetTest {
+    private FakeItemIntegration nexo;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        nexo = FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+    }
+
+    @Test
+    void matchesMaterialsAndItemIds() {
+        final ItemSet items = ItemSet.builder()
+            .materials(Material.STONE)
+            .items("minecraft:dirt", "nexo:ruby")
+            .build();
+
+        assertTrue(items.test(new ItemStack(Material.STONE)));
+        assertTrue(items.test(new ItemStack(Material.DIRT)));
+        assertTrue(items.test(new ItemStack(Material.EMERALD)));
+        assertFalse(items.test(new ItemStack(Material.GOLD_INGOT)));
+        assertFalse(items.test(null));
+        assertTrue(items.contains(Material.DIRT));
+        assertFalse(items.contains(Material.EMERALD));
+    }
+
+    @Test
+    void customItemsAreNotMembersThroughTheirMaterial() {
+        final ItemSet items = ItemSet.builder().materials(Material.EMERALD).build();
+
+        assertFalse(items.test(new ItemStack(Material.EMERALD)));
+
+        nexo.unregister("ruby");
+        assertTrue(items.test(new ItemStack(Material.EMERALD)));
+    }
+
+    @Test
+    void missingItemIdsNeverMatch() {
+        final ItemSet items = ItemSet.of("nexo:missing", "minecraft:missing");
+
+        assertFalse(items.test(new ItemStack(Material.EMERALD)));
+        assertFalse(items.test(new ItemStack(Material.STONE)));
+    }
+
+    @Test
+    void resolvesItemIdsWhenBuilt() {
+        final ItemSet[] items = new ItemSet[1];
+
+        // Only the custom item id is resolved, once
+        Budgets.assertCallsAtMost(nexo, 2, () -> items[0] = ItemSet.of("minecraft:stone", "nexo:ruby"));
+
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertTrue(items[0].test(new ItemStack(Material.EMERALD))));
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertTrue(items[0].test(new ItemStack(Material.STONE))));
+        // Stacks of a material outside the set are rejected before asking any provider
+        Budgets.assertCallsAtMost(nexo, 0, () -> assertFalse(items[0].test(new ItemStack(Material.DIRT))));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import io.github.milkdrinkers.itemutil.testkit.Budgets;
+import io.github.milkdrinkers.itemutil.testkit.FakeItemIntegration;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemUtilsTest {
+    private FakeItemIntegration nexo;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        nexo = FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+    }
+
+    @Test
+    void parseResolvesItemStackOnce() {
+        final ItemStack ruby = new ItemStack(Material.EMERALD);
+
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertEquals("nexo:ruby", ItemUtils.parse(ruby)));
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertEquals("minecraft:stone", ItemUtils.parse(new ItemStack(Material.STONE))));
+    }
+
+    @Test
+    void matchResolvesItemStackOnce() {
+        final ItemStack ruby = new ItemStack(Material.EMERALD);
+
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertTrue(ItemUtils.match(ruby, "nexo:ruby")));
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertFalse(ItemUtils.match(ruby, "emerald")));
+        Budgets.assertCallsAtMost(nexo, 1, () -> assertTrue(ItemUtils.match(new ItemStack(Material.STONE), "minecraft:stone")));
+    }
+}
\ No newline at end of file
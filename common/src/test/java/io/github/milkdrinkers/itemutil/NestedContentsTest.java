@@ -0,0 +1,182 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import io.github.milkdrinkers.itemutil.testkit.FakeInventory;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import org.bukkit.Material;
+import org.bukkit.block.ShulkerBox;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+import org.bukkit.inventory.meta.BundleMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NestedContentsTest {
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+    }
+
+    private static <T> T proxy(final Class<T> type, final Function<String, Object> answer) {
+        return proxy(type, new Object(), answer);
+    }
+
+    /**
+     * Creates a proxy equal to every other proxy of the same key, like item metas with the same data.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final Object key, final Function<String, Object> answer) {
+        return (T) Proxy.newProxyInstance(NestedContentsTest.class.getClassLoader(), new Class<?>[]{type, Keyed.class}, (proxy, method, args) -> {
+            final Object result = switch (method.getName()) {
+                case "key" -> key;
+                case "equals" -> args[0] instanceof Keyed other && other.key().equals(key);
+                case "hashCode" -> key.hashCode();
+                default -> answer.apply(method.getName());
+            };
+            if (result == null)
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            return result;
+        });
+    }
+
+    private static ContainerStack bundle(final int amount, final ItemStack... items) {
+        return new ContainerStack(Material.BUNDLE, amount, proxy(BundleMeta.class, method -> switch (method) {
+            case "hasItems" -> items.length > 0;
+            case "getItems" -> List.of(items);
+            default -> null;
+        }));
+    }
+
+    private static ContainerStack shulker(final int amount, final ItemStack... items) {
+        return shulker(amount, new Object(), new AtomicInteger(), items);
+    }
+
+    private static ContainerStack shulker(final int amount, final Object key, final AtomicInteger decodes, final ItemStack... items) {
+        final ShulkerBox state = proxy(ShulkerBox.class, method -> method.equals("getInventory") ? FakeInventory.of(items).getInventory() : null);
+        return new ContainerStack(Material.RED_SHULKER_BOX, amount, proxy(BlockStateMeta.class, key, method -> switch (method) {
+            case "hasBlockState" -> true;
+            case "getBlockState" -> {
+                decodes.incrementAndGet();
+                yield state;
+            }
+            default -> null;
+        }));
+    }
+
+    @Test
+    void detectsContainersWithoutServer() {
+        assertTrue(NestedContents.isContainer(new ItemStack(Material.BUNDLE)));
+        assertTrue(NestedContents.isContainer(new ItemStack(Material.SHULKER_BOX)));
+        assertTrue(NestedContents.isContainer(new ItemStack(Material.WHITE_SHULKER_BOX)));
+        assertFalse(NestedContents.isContainer(new ItemStack(Material.STONE)));
+    }
+
+    @Test
+    void multipliesNestedAmountsByContainerAmount() {
+        final InventoryHolder holder = FakeInventory.of(
+            bundle(3, new ItemStack(Material.STONE, 5)),
+            shulker(2, new ItemStack(Material.STONE, 10), bundle(1, new ItemStack(Material.STONE, 4))),
+            new ItemStack(Material.STONE, 1)
+        ).getHolder();
+
+        // 1 + 3 * 5 + 2 * (10 + 1 * 4)
+        assertEquals(44, InventoryUtils.countItems(holder, "minecraft:stone", Traversal.NESTED));
+        assertEquals(1, InventoryUtils.countItems(holder, "minecraft:stone", Traversal.TOP_LEVEL));
+        assertTrue(InventoryUtils.contains(holder, "minecraft:stone", 44, Traversal.NESTED));
+        assertFalse(InventoryUtils.contains(holder, "minecraft:stone", 45, Traversal.NESTED));
+        // 3 + 2 * 1
+        assertEquals(5, InventoryUtils.countItems(holder, "minecraft:bundle", Traversal.NESTED));
+    }
+
+    @Test
+    void findItemsCopiesCarryTotalAmount() {
+        final InventoryHolder holder = FakeInventory.of(bundle(3, new ItemStack(Material.STONE, 5))).getHolder();
+
+        final List<ItemStack> found = InventoryUtils.findItems(holder, item -> item.getType() == Material.STONE, Traversal.NESTED);
+        assertEquals(1, found.size());
+        assertEquals(15, found.get(0).getAmount());
+    }
+
+    @Test
+    void decodesEqualContainersOnceAcrossCalls() {
+        final Object key = new Object();
+        final AtomicInteger decodes = new AtomicInteger();
+        // Like server mirrors, every call sees a different item stack with a different, but equal, meta
+        final InventoryHolder first = FakeInventory.of(shulker(1, key, decodes, new ItemStack(Material.STONE, 7))).getHolder();
+        final InventoryHolder second = FakeInventory.of(shulker(2, key, decodes, new ItemStack(Material.STONE, 7))).getHolder();
+
+        assertEquals(7, InventoryUtils.countItems(first, "minecraft:stone", Traversal.NESTED));
+        assertEquals(14, InventoryUtils.countItems(second, "minecraft:stone", Traversal.NESTED));
+        assertEquals(1, decodes.get());
+
+        // A container with other contents has another fingerprint
+        final InventoryHolder other = FakeInventory.of(shulker(1, new ItemStack(Material.STONE, 3))).getHolder();
+        assertEquals(3, InventoryUtils.countItems(other, "minecraft:stone", Traversal.NESTED));
+    }
+
+    /**
+     * An item stack with meta that works without a server, failing the test if it is ever hashed or compared.
+     * The cache hashes and compares the meta instead.
+     */
+    private static final class ContainerStack extends ItemStack {
+        private final ItemMeta meta;
+
+        private ContainerStack(final Material type, final int amount, final ItemMeta meta) {
+            super(type, amount);
+            this.meta = meta;
+        }
+
+        @Override
+        public boolean hasItemMeta() {
+            return true;
+        }
+
+        @Override
+        public ItemMeta getItemMeta() {
+            return meta;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            throw new AssertionError("Item stack was compared");
+        }
+
+        @Override
+        public int hashCode() {
+            throw new AssertionError("Item stack was hashed");
+        }
+    }
+
+    private interface Keyed {
+        Object key();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil;
+
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import io.github.milkdrinkers.itemutil.testkit.FakeServer;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProviderSnapshotTest {
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+    }
+
+    @Test
+    void boundSnapshotIsReadInsteadOfPluginManager() {
+        final ProviderSnapshot snapshot = ItemUtils.snapshotProviders();
+        assertTrue(snapshot.isLoaded(ItemProvider.NEXO));
+
+        FakeServer.get().setPluginEnabled(ItemProvider.NEXO.getPluginName(), false);
+        assertFalse(ItemProvider.NEXO.isLoaded());
+        assertNull(ItemUtils.parse("nexo:ruby"));
+
+        snapshot.runBound(() -> {
+            assertTrue(ItemProvider.NEXO.isLoaded());
+            assertNotNull(ItemUtils.parse("nexo:ruby"));
+            assertTrue(ItemUtils.snapshotProviders().isLoaded(ItemProvider.NEXO));
+        });
+
+        assertFalse(ItemProvider.NEXO.isLoaded());
+    }
+
+    @Test
+    void boundSnapshotHidesUnloadedProviders() {
+        final ProviderSnapshot snapshot = ItemUtils.snapshotProviders().withoutPlugin(ItemProvider.NEXO.getPluginName());
+
+        assertEquals("minecraft:emerald", snapshot.supplyBound(() -> ItemUtils.parse(new ItemStack(Material.EMERALD))));
+        assertEquals("nexo:ruby", ItemUtils.parse(new ItemStack(Material.EMERALD)));
+    }
+
+    @Test
+    void nestedBindingsRestoreThePreviousSnapshot() {
+        final ProviderSnapshot outer = ItemUtils.snapshotProviders();
+        final ProviderSnapshot inner = outer.withoutPlugin(ItemProvider.NEXO.getPluginName());
+
+        outer.runBound(() -> {
+            inner.runBound(() -> assertFalse(ItemProvider.NEXO.isLoaded()));
+            assertTrue(ItemProvider.NEXO.isLoaded());
+        });
+        assertNull(ProviderSnapshot.bound());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.codec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCodecTest {
+    private static final int MAGIC = 0x49544D43;
+    private static final byte VERSION = 1;
+
+    private static ByteBuffer encoded() {
+        return ItemCodec.encoder()
+            .add(9, List.of(new ItemReference(0, "minecraft:stone", 64), new ItemReference(4, "nexo:ruby", 3)))
+            .add(3, List.of(new ItemReference(2, "minecraft:stone", 1)))
+            .encode();
+    }
+
+    private static ByteBuffer header(final int... values) {
+        final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + Byte.BYTES + values.length * 5);
+        buffer.putInt(MAGIC).put(VERSION);
+        for (final int value : values)
+            VarInts.write(buffer, value);
+        return buffer.flip();
+    }
+
+    @Test
+    void roundTripsReferences() {
+        final ItemCodec.Decoder decoder = ItemCodec.decode(encoded());
+
+        assertEquals(2, decoder.getRecordCount());
+        assertEquals(List.of("minecraft:stone", "nexo:ruby"), decoder.getItemIds());
+        assertEquals(9, decoder.getSize(0));
+        assertEquals(List.of(new ItemReference(0, "minecraft:stone", 64), new ItemReference(4, "nexo:ruby", 3)), decoder.getReferences(0));
+        assertEquals(List.of(new ItemReference(2, "minecraft:stone", 1)), decoder.getReferences(1));
+    }
+
+    @Test
+    void readsConsecutiveBuffersFromFileChannel(final @TempDir Path directory) throws IOException {
+        final Path file = directory.resolve("items.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ItemCodec.encoder().add(9, List.of(new ItemReference(0, "minecraft:stone", 64))).write(channel);
+            ItemCodec.encoder().add(3, List.of(new ItemReference(2, "nexo:ruby", 3))).write(channel);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(List.of(new ItemReference(0, "minecraft:stone", 64)), ItemCodec.read(channel).getReferences(0));
+            assertEquals(List.of(new ItemReference(2, "nexo:ruby", 3)), ItemCodec.read(channel).getReferences(0));
+            assertEquals(channel.size(), channel.position());
+        }
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        final ByteBuffer buffer = encoded();
+        for (int length = 0; length < buffer.limit(); length++) {
+            final ByteBuffer truncated = buffer.duplicate().limit(length);
+            assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(truncated), "length " + length);
+        }
+    }
+
+    @Test
+    void rejectsNegativeCounts() {
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(-1)));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(0, -1)));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(0, 0, -1)));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(0, 0, 1, 1, -1)));
+    }
+
+    @Test
+    void rejectsCountsLargerThanTheBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(Integer.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(0, 0, 1, 1, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void rejectsNegativeEntries() {
+        // one namespace "a", one key "b", one record of size 1 with one entry
+        final ByteBuffer valid = header(1, 1, 'a', 1, 0, 1, 'b', 1, 1, 1, 0, 0, 1);
+        assertDoesNotThrow(() -> ItemCodec.decode(valid.duplicate()));
+
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(1, -1)));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(1, 1, 'a', 1, -1, 1, 'b')));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(1, 1, 'a', 1, 0, 1, 'b', 1, -1, 1, 0, 0, 1)));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(1, 1, 'a', 1, 0, 1, 'b', 1, 1, 1, -1, 0, 1)));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(1, 1, 'a', 1, 0, 1, 'b', 1, 1, 1, 0, -1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(header(1, 1, 'a', 1, 0, 1, 'b', 1, 1, 1, 0, 0, -1)));
+    }
+
+    @Test
+    void rejectsGarbageWithCorruptDataError() {
+        final Random random = new Random(0x49544D43L);
+        for (int i = 0; i < 2000; i++) {
+            final byte[] bytes = new byte[random.nextInt(64)];
+            random.nextBytes(bytes);
+            final ByteBuffer buffer = header();
+            final ByteBuffer garbage = ByteBuffer.allocate(buffer.remaining() + bytes.length).put(buffer).put(bytes).flip();
+            try {
+                ItemCodec.decode(garbage);
+            } catch (IllegalArgumentException ignored) {
+                // the expected corrupt data error
+            } catch (RuntimeException e) {
+                fail("Garbage input " + i + " raised " + e, e);
+            }
+        }
+    }
+}
\ No newline at end of file
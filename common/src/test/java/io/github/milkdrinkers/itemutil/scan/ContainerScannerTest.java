@@ -0,0 +1,210 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.scan;
+
+import io.github.milkdrinkers.itemutil.ItemHistogram;
+import io.github.milkdrinkers.itemutil.testkit.FakeInventory;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import io.github.milkdrinkers.itemutil.testkit.FakeServer;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContainerScannerTest {
+    private Plugin plugin;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        FakeServer.get().reset();
+        plugin = FakeServer.get().createPlugin("ScanTest");
+        chunks.clear();
+        world = proxy(World.class, "World", method -> method.equals("getLoadedChunks") ? chunks.toArray(Chunk[]::new) : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final String name, final Function<String, Object> answer) {
+        return (T) Proxy.newProxyInstance(ContainerScannerTest.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+            case "toString" -> name;
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> {
+                final Object result = answer.apply(method.getName());
+                if (result == null)
+                    throw new UnsupportedOperationException(name + "." + method.getName());
+                yield result;
+            }
+        });
+    }
+
+    private static Container chest(final int x, final FakeInventory inventory) {
+        return proxy(Container.class, "Chest", method -> switch (method) {
+            case "getX" -> x;
+            case "getY" -> 64;
+            case "getZ" -> 0;
+            case "getType" -> Material.CHEST;
+            case "getSnapshotInventory" -> inventory.getInventory();
+            default -> null;
+        });
+    }
+
+    private void chunk(final int chunkX, final BlockState... tileEntities) {
+        chunks.add(proxy(Chunk.class, "Chunk", method -> switch (method) {
+            case "getX" -> chunkX;
+            case "getZ" -> 0;
+            case "getWorld" -> world;
+            case "isLoaded" -> true;
+            case "getTileEntities" -> tileEntities;
+            default -> null;
+        }));
+    }
+
+    @Test
+    void countsCapturedChunkContents() {
+        final BlockState sign = proxy(BlockState.class, "Sign", method -> null);
+        chunk(0, chest(1, FakeInventory.of(new ItemStack(Material.STONE, 10), new ItemStack(Material.DIRT, 3))), sign, chest(2, FakeInventory.create(27)));
+        chunk(1, chest(17, FakeInventory.of(new ItemStack(Material.STONE, 5))));
+
+        final List<ContainerScanResult> containers = Collections.synchronizedList(new ArrayList<>());
+        final List<ChunkScanResult> chunkResults = Collections.synchronizedList(new ArrayList<>());
+        final CompletableFuture<ItemHistogram> future = ContainerScanner.builder(plugin)
+            .worlds(List.of(world))
+            .chunksPerTick(1)
+            .executor(Runnable::run)
+            .onContainer(containers::add)
+            .onChunk(chunkResults::add)
+            .build()
+            .start();
+
+        FakeServer.get().tick();
+        assertFalse(future.isDone());
+        FakeServer.get().tick();
+
+        final ItemHistogram total = future.getNow(null);
+        assertNotNull(total);
+        assertEquals(15, total.get("minecraft:stone"));
+        assertEquals(3, total.get("minecraft:dirt"));
+        assertEquals(18, total.total());
+        assertEquals(0, FakeServer.get().getPendingTasks());
+
+        // Empty containers and chunks are not reported
+        assertEquals(2, containers.size());
+        assertEquals(2, chunkResults.size());
+        final ChunkScanResult first = chunkResults.get(0);
+        assertEquals(0, first.chunkX());
+        assertEquals(1, first.containers().size());
+        assertEquals(13, first.histogram().total());
+        assertEquals(17, chunkResults.get(1).containers().get(0).x());
+    }
+
+    @Test
+    void histogramsOnlyCountFilteredItems() {
+        chunk(0, chest(1, FakeInventory.of(new ItemStack(Material.STONE, 10), new ItemStack(Material.DIRT, 3))), chest(2, FakeInventory.of(new ItemStack(Material.DIRT, 4))));
+
+        final List<ContainerScanResult> containers = new ArrayList<>();
+        final CompletableFuture<ItemHistogram> future = ContainerScanner.builder(plugin)
+            .worlds(List.of(world))
+            .filter(item -> item.getType() == Material.STONE)
+            .executor(Runnable::run)
+            .onContainer(containers::add)
+            .build()
+            .start();
+
+        FakeServer.get().tick();
+        final ItemHistogram total = future.getNow(null);
+        assertNotNull(total);
+        assertEquals(10, total.get("minecraft:stone"));
+        assertEquals(0, total.get("minecraft:dirt"));
+
+        assertEquals(1, containers.size());
+        final ContainerScanResult result = containers.get(0);
+        assertEquals(1, result.x());
+        assertEquals(64, result.y());
+        assertEquals(Material.CHEST, result.type());
+        assertEquals(10, result.histogram().get("minecraft:stone"));
+    }
+
+    @Test
+    void countsOnTheExecutorAfterCapturing() {
+        final FakeInventory inventory = FakeInventory.of(new ItemStack(Material.STONE, 10));
+        chunk(0, chest(1, inventory));
+
+        final List<Runnable> queued = new ArrayList<>();
+        final CompletableFuture<ItemHistogram> future = ContainerScanner.builder(plugin)
+            .worlds(List.of(world))
+            .executor(queued::add)
+            .build()
+            .start();
+
+        FakeServer.get().tick();
+        assertEquals(1, queued.size());
+        assertFalse(future.isDone());
+        assertEquals(0, FakeServer.get().getPendingTasks());
+
+        // Changes after the contents were captured are not counted
+        inventory.put(0, new ItemStack(Material.STONE, 64));
+        queued.forEach(Runnable::run);
+        final ItemHistogram total = future.getNow(null);
+        assertNotNull(total);
+        assertEquals(10, total.get("minecraft:stone"));
+    }
+
+    @Test
+    void cancellingStopsTheScan() {
+        chunk(0, chest(1, FakeInventory.of(new ItemStack(Material.STONE, 10))));
+        chunk(1, chest(17, FakeInventory.of(new ItemStack(Material.STONE, 5))));
+
+        final List<Runnable> queued = new ArrayList<>();
+        final ContainerScanner scanner = ContainerScanner.builder(plugin)
+            .worlds(List.of(world))
+            .chunksPerTick(1)
+            .executor(queued::add)
+            .build();
+        final CompletableFuture<ItemHistogram> future = scanner.start();
+        assertThrows(IllegalStateException.class, scanner::start);
+
+        FakeServer.get().tick();
+        scanner.cancel();
+        assertTrue(future.isCancelled());
+        assertEquals(0, FakeServer.get().getPendingTasks());
+
+        FakeServer.get().tick();
+        assertEquals(1, queued.size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotRecordTest {
+    private static final UUID OWNER = new UUID(0, 1);
+    private static final SlotState RUBY = new SlotState("nexo:ruby", 5, null);
+    private static final SlotState FEWER_RUBIES = new SlotState("nexo:ruby", 3, null);
+    private static final SlotState NAMED_STONE = new SlotState("minecraft:stone", 64, new byte[]{1, 2, 3, 4});
+
+    @Test
+    void deltasOnlyCarryChangedSlots() {
+        final SlotState[] first = {RUBY, null, NAMED_STONE, null};
+        final SlotState[] second = {FEWER_RUBIES, null, NAMED_STONE, RUBY};
+        final SlotState[] third = {null, null, NAMED_STONE, RUBY};
+
+        final SnapshotRecord keyframe = SnapshotRecord.diff(OWNER, 1, null, first);
+        assertTrue(keyframe.keyframe());
+        assertEquals(Set.of(0, 2), keyframe.changes().keySet());
+
+        final SnapshotRecord delta = SnapshotRecord.diff(OWNER, 2, first, second);
+        assertFalse(delta.keyframe());
+        assertEquals(Set.of(0, 3), delta.changes().keySet());
+        assertArrayEquals(second, delta.apply(keyframe.apply(null)));
+
+        // A removed item is a change to an empty slot
+        final SnapshotRecord removal = SnapshotRecord.diff(OWNER, 3, second, third);
+        assertEquals(Set.of(0), removal.changes().keySet());
+        assertNull(removal.changes().get(0));
+        assertArrayEquals(third, removal.apply(second));
+    }
+
+    @Test
+    void keyframesIgnoreThePreviousState() {
+        final SlotState[] state = {null, RUBY};
+        final SnapshotRecord keyframe = SnapshotRecord.diff(OWNER, 1, null, state);
+
+        assertArrayEquals(state, keyframe.apply(new SlotState[]{NAMED_STONE, NAMED_STONE, NAMED_STONE}));
+    }
+
+    @Test
+    void roundTripsSlotsThroughEncoding() {
+        final SnapshotRecord record = SnapshotRecord.diff(OWNER, 42, new SlotState[]{RUBY, NAMED_STONE, RUBY}, new SlotState[]{null, NAMED_STONE, FEWER_RUBIES, NAMED_STONE});
+
+        final SnapshotRecord decoded = SnapshotRecord.decode(record.encode());
+        assertEquals(record, decoded);
+        assertArrayEquals(NAMED_STONE.serialized(), decoded.changes().get(3).serialized());
+
+        assertEquals(OWNER, SnapshotRecord.readOwner(record.encode()));
+        assertEquals(42, SnapshotRecord.readTimestamp(record.encode()));
+        assertFalse(SnapshotRecord.readKeyframe(record.encode()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.snapshot;
+
+import io.github.milkdrinkers.itemutil.ItemProvider;
+import io.github.milkdrinkers.itemutil.ItemUtils;
+import io.github.milkdrinkers.itemutil.testkit.FakeItemIntegration;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotStoreTest {
+    private static final UUID OWNER = new UUID(0, 1);
+
+    @TempDir
+    Path directory;
+    private FakeItemIntegration nexo;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        nexo = FakeProviders.install(ItemProvider.NEXO);
+        registerRuby();
+        nexo.register("sapphire", () -> new PlainStack(Material.DIAMOND, 1), item -> item.getType() == Material.DIAMOND);
+    }
+
+    private void registerRuby() {
+        nexo.register("ruby", () -> new PlainStack(Material.EMERALD, 1), item -> item.getType() == Material.EMERALD);
+    }
+
+    private static ItemStack ruby(final int amount) {
+        return new PlainStack(Material.EMERALD, amount);
+    }
+
+    private static ItemStack sapphire(final int amount) {
+        return new PlainStack(Material.DIAMOND, amount);
+    }
+
+    private static List<String> describe(final @Nullable ItemStack[] contents) {
+        return Arrays.stream(contents)
+            .map(item -> item == null ? "empty" : "%s x%d".formatted(ItemUtils.parse(item), item.getAmount()))
+            .toList();
+    }
+
+    private static List<String> restore(final SnapshotStore store, final long timestamp) {
+        return describe(store.restore(OWNER, Instant.ofEpochMilli(timestamp)).orElseThrow());
+    }
+
+    private SnapshotStore open() throws IOException {
+        return SnapshotStore.builder(directory).segmentSize(1024).keyframeInterval(2).build();
+    }
+
+    private static void record(final SnapshotStore store, final long... timestamps) throws IOException {
+        for (final long timestamp : timestamps)
+            store.record(OWNER, Instant.ofEpochMilli(timestamp), new ItemStack[4]);
+    }
+
+    private static List<Long> timestamps(final SnapshotStore store) {
+        return store.getTimestamps(OWNER).stream().map(Instant::toEpochMilli).toList();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+
+    @Test
+    void compactDiscardsSnapshotsBeforeCutoff() throws IOException {
+        try (final SnapshotStore store = open()) {
+            record(store, 1, 2, 3, 4, 5);
+            store.compact(Instant.ofEpochMilli(3));
+
+            assertEquals(List.of(3L, 4L, 5L), timestamps(store));
+            assertTrue(store.restore(OWNER, Instant.ofEpochMilli(3)).isPresent());
+            assertTrue(store.restore(OWNER, Instant.ofEpochMilli(2)).isEmpty());
+        }
+    }
+
+    @Test
+    void reopenAfterCompactionHasNoDuplicates() throws IOException {
+        try (final SnapshotStore store = open()) {
+            record(store, 1, 2, 3, 4, 5);
+            store.compact(Instant.ofEpochMilli(3));
+        }
+
+        try (final SnapshotStore store = open()) {
+            assertEquals(List.of(3L, 4L, 5L), timestamps(store));
+
+            record(store, 6);
+            store.compact(Instant.ofEpochMilli(5));
+            assertEquals(List.of(5L, 6L), timestamps(store));
+        }
+
+        try (final SnapshotStore store = open()) {
+            assertEquals(List.of(5L, 6L), timestamps(store));
+            for (final Path path : segmentFiles()) {
+                try (final Segment segment = Segment.open(path, 0)) {
+                    assertEquals(2, segment.getGeneration());
+                }
+            }
+        }
+    }
+
+    @Test
+    void reopenDiscardsUncommittedGeneration() throws IOException {
+        try (final SnapshotStore store = open()) {
+            record(store, 1, 2);
+        }
+
+        // Simulate a compaction that crashed before the generation file was updated
+        final List<Path> committed = segmentFiles();
+        final Path leftover = directory.resolve("segment-00000099.dat");
+        try (final Segment source = Segment.open(committed.get(0), 0);
+             final Segment segment = Segment.create(leftover, 99, 1, 1024)) {
+            for (final int offset : source.offsets())
+                segment.append(source.read(offset));
+        }
+
+        try (final SnapshotStore store = open()) {
+            assertEquals(List.of(1L, 2L), timestamps(store));
+            assertFalse(Files.exists(leftover));
+            assertEquals(committed, segmentFiles());
+        }
+    }
+
+    @Test
+    void reopenKeepsKeyframeCadence() throws IOException {
+        try (final SnapshotStore store = open()) {
+            record(store, 1, 2);
+            store.compact(Instant.ofEpochMilli(1));
+        }
+
+        try (final SnapshotStore store = open()) {
+            record(store, 3, 4);
+            assertEquals(List.of(1L, 2L, 3L, 4L), timestamps(store));
+
+            assertEquals(List.of(true, false, true, false), keyframes());
+        }
+    }
+
+    private List<Boolean> keyframes() throws IOException {
+        final List<Boolean> keyframes = new ArrayList<>();
+        for (final Path path : segmentFiles()) {
+            try (final Segment segment = Segment.open(path, 0)) {
+                for (final int offset : segment.offsets())
+                    keyframes.add(SnapshotRecord.readKeyframe(segment.read(offset)));
+            }
+        }
+        return keyframes;
+    }
+
+    @Test
+    void restoresRealContentsThroughDeltasAndCompaction() throws IOException {
+        final ItemStack[][] snapshots = {
+            {ruby(5), null, sapphire(2), null},
+            {ruby(3), null, sapphire(2), ruby(1)},
+            {null, null, sapphire(2), ruby(1)},
+            {null, sapphire(4), sapphire(2), null},
+        };
+
+        try (final SnapshotStore store = open()) {
+            for (int i = 0; i < snapshots.length; i++)
+                store.record(OWNER, Instant.ofEpochMilli(i + 1), snapshots[i]);
+
+            for (int i = 0; i < snapshots.length; i++)
+                assertEquals(describe(snapshots[i]), restore(store, i + 1));
+
+            // The delta at 2 becomes the first record, so compaction has to write it as a keyframe
+            store.compact(Instant.ofEpochMilli(2));
+            for (int i = 1; i < snapshots.length; i++)
+                assertEquals(describe(snapshots[i]), restore(store, i + 1));
+        }
+
+        try (final SnapshotStore store = open()) {
+            for (int i = 1; i < snapshots.length; i++)
+                assertEquals(describe(snapshots[i]), restore(store, i + 1));
+        }
+    }
+
+    @Test
+    void restoresTemplateSlotsOnceTheItemResolves() throws IOException {
+        try (final SnapshotStore store = open()) {
+            store.record(OWNER, Instant.ofEpochMilli(1), new ItemStack[]{ruby(5), sapphire(2)});
+        }
+
+        // Like a restore before the item plugin has loaded its items
+        nexo.unregister("ruby");
+        try (final SnapshotStore store = open()) {
+            assertEquals(List.of("empty", "nexo:sapphire x2"), restore(store, 1));
+
+            registerRuby();
+            assertEquals(List.of("nexo:ruby x5", "nexo:sapphire x2"), restore(store, 1));
+        }
+    }
+
+    /**
+     * An item stack comparing by type, as comparing item stacks reads their meta, which needs a server.
+     */
+    private static final class PlainStack extends ItemStack {
+        private PlainStack(final Material type, final int amount) {
+            super(type, amount);
+        }
+
+        @Override
+        public boolean isSimilar(final @Nullable ItemStack stack) {
+            return stack != null && stack.getType() == getType();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.sweep;
+
+import io.github.milkdrinkers.itemutil.InventoryUtils;
+import io.github.milkdrinkers.itemutil.ItemProvider;
+import io.github.milkdrinkers.itemutil.testkit.Budgets;
+import io.github.milkdrinkers.itemutil.testkit.FakeInventory;
+import io.github.milkdrinkers.itemutil.testkit.FakeItemIntegration;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import io.github.milkdrinkers.itemutil.testkit.FakeServer;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.BlockInventoryHolder;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventorySweepTest {
+    private Plugin plugin;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        FakeServer.get().reset();
+        plugin = FakeServer.get().createPlugin("SweepTest");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final String name, final Function<String, Object> answer) {
+        return (T) Proxy.newProxyInstance(InventorySweepTest.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+            case "toString" -> name;
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> {
+                final Object result = answer.apply(method.getName());
+                if (result == null)
+                    throw new UnsupportedOperationException(name + "." + method.getName());
+                yield result;
+            }
+        });
+    }
+
+    private static Player offlinePlayer() {
+        return proxy(Player.class, "OfflinePlayer", method -> method.equals("isOnline") ? false : null);
+    }
+
+    private static BlockInventoryHolder unloadedChest() {
+        final World world = proxy(World.class, "World", method -> method.equals("isChunkLoaded") ? false : null);
+        final Block block = proxy(Block.class, "Block", method -> switch (method) {
+            case "getWorld" -> world;
+            case "getX", "getZ" -> 100;
+            default -> null;
+        });
+        return proxy(BlockInventoryHolder.class, "Chest", method -> method.equals("getBlock") ? block : null);
+    }
+
+    @Test
+    void removesFromEveryHolderAcrossTicks() {
+        final List<InventoryHolder> holders = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            holders.add(FakeInventory.of(new ItemStack(Material.STONE, 10), new ItemStack(Material.DIRT, 3)).getHolder());
+
+        final CompletableFuture<SweepMetrics> future = InventorySweep.builder(plugin, holders, SweepOperation.remove("minecraft:stone", 4))
+            .build()
+            .start();
+
+        FakeServer.get().tick(holders.size());
+        final SweepMetrics metrics = future.getNow(null);
+        assertNotNull(metrics);
+        assertTrue(metrics.isComplete());
+        assertEquals(5, metrics.affectedHolders());
+        assertEquals(20, metrics.affectedItems());
+        assertEquals(0, metrics.skipped());
+        for (final InventoryHolder holder : holders)
+            assertEquals(6, InventoryUtils.countItems(holder, Material.STONE));
+        assertEquals(0, FakeServer.get().getPendingTasks());
+    }
+
+    @Test
+    void reportsAffectedItemsFromRemainingAmount() {
+        final InventoryHolder holder = FakeInventory.of(new ItemStack(Material.STONE, 3)).getHolder();
+
+        assertEquals(3, SweepOperation.remove("minecraft:stone", 5).apply(holder));
+        assertEquals(0, SweepOperation.remove("minecraft:stone", 5).apply(holder));
+        assertEquals(0, SweepOperation.remove("nexo:missing", 5).apply(holder));
+    }
+
+    @Test
+    void skipsInvalidHolders() {
+        final InventoryHolder valid = FakeInventory.of(new ItemStack(Material.STONE, 10)).getHolder();
+        final List<InventoryHolder> holders = List.of(offlinePlayer(), valid, unloadedChest());
+
+        final CompletableFuture<SweepMetrics> future = InventorySweep.builder(plugin, holders, SweepOperation.clear("minecraft:stone"))
+            .build()
+            .start();
+
+        FakeServer.get().tick(holders.size());
+        final SweepMetrics metrics = future.getNow(null);
+        assertNotNull(metrics);
+        assertTrue(metrics.isComplete());
+        assertEquals(3, metrics.processed());
+        assertEquals(2, metrics.skipped());
+        assertEquals(0, metrics.failed());
+        assertEquals(1, metrics.affectedHolders());
+        assertEquals(10, metrics.affectedItems());
+    }
+
+    @Test
+    void resolvesItemIdOncePerSweep() {
+        final FakeItemIntegration nexo = FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+        final List<InventoryHolder> holders = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            holders.add(FakeInventory.of(new ItemStack(Material.EMERALD, 4), new ItemStack(Material.STONE, 10)).getHolder());
+
+        final List<CompletableFuture<SweepMetrics>> futures = new ArrayList<>();
+        // The removal stops at the first slot of every holder, so only those are resolved
+        Budgets.assertCallsAtMost(nexo, holders.size(), () -> {
+            futures.add(InventorySweep.builder(plugin, holders, SweepOperation.remove("nexo:ruby", 3)).build().start());
+            FakeServer.get().tick(holders.size());
+        });
+        assertEquals(0, nexo.getParseIdCalls());
+        assertEquals(0, nexo.getIsValidCalls());
+
+        final SweepMetrics metrics = futures.get(0).getNow(null);
+        assertNotNull(metrics);
+        assertEquals(15, metrics.affectedItems());
+        for (final InventoryHolder holder : holders)
+            assertEquals(1, InventoryUtils.countItems(holder, "nexo:ruby"));
+    }
+
+    @Test
+    void completesWhenProgressListenerThrows() {
+        final List<InventoryHolder> holders = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            holders.add(FakeInventory.of(new ItemStack(Material.STONE, 10)).getHolder());
+
+        final List<SweepMetrics> progress = new ArrayList<>();
+        final CompletableFuture<SweepMetrics> future = InventorySweep.builder(plugin, holders, SweepOperation.clear("minecraft:stone"))
+            .onProgress(metrics -> {
+                progress.add(metrics);
+                throw new IllegalStateException("Listener failed");
+            })
+            .build()
+            .start();
+
+        FakeServer.get().tick(holders.size());
+        final SweepMetrics metrics = future.getNow(null);
+        assertNotNull(metrics);
+        assertTrue(metrics.isComplete());
+        assertEquals(30, metrics.affectedItems());
+        assertEquals(0, FakeServer.get().getPendingTasks());
+
+        // Later ticks neither process holders past the end nor notify the listener again
+        final int notified = progress.size();
+        assertDoesNotThrow(() -> FakeServer.get().tick(2));
+        assertEquals(notified, progress.size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.template;
+
+import io.github.milkdrinkers.itemutil.ItemProvider;
+import io.github.milkdrinkers.itemutil.testkit.Budgets;
+import io.github.milkdrinkers.itemutil.testkit.FakeItemIntegration;
+import io.github.milkdrinkers.itemutil.testkit.FakeProviders;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemTemplateTest {
+    private final AtomicInteger edits = new AtomicInteger();
+    private FakeItemIntegration nexo;
+
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+        nexo = FakeProviders.install(ItemProvider.NEXO)
+            .register("coin_pouch", () -> new MetaStack(edits), item -> item.getType() == Material.EMERALD);
+    }
+
+    private static String plain(final @Nullable Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(Objects.requireNonNull(component));
+    }
+
+    private static List<String> plain(final @Nullable List<Component> lore) {
+        return Objects.requireNonNull(lore).stream().map(ItemTemplateTest::plain).toList();
+    }
+
+    @Test
+    void replacesPlaceholdersKeepingStyle() {
+        final ItemTemplate template = ItemTemplate.builder("nexo:coin_pouch")
+            .name(Component.text("Pouch of {owner}", NamedTextColor.GOLD))
+            .lore(Component.text("Balance: {balance}", NamedTextColor.GRAY), Component.text("Right click to open"))
+            .placeholders("owner", "balance")
+            .build();
+
+        final ItemMeta meta = template.render("Steve", "1,250").getItemMeta();
+        assertEquals("Pouch of Steve", plain(meta.displayName()));
+        assertEquals(NamedTextColor.GOLD, meta.displayName().color());
+        assertEquals(TextDecoration.State.FALSE, meta.displayName().decoration(TextDecoration.ITALIC));
+        assertEquals(List.of("Balance: 1,250", "Right click to open"), plain(meta.lore()));
+        assertEquals(NamedTextColor.GRAY, meta.lore().get(0).color());
+        for (final Component line : meta.lore())
+            assertEquals(TextDecoration.State.FALSE, line.decoration(TextDecoration.ITALIC));
+
+        assertEquals("Pouch of Alex", plain(template.render(Map.of("balance", "5", "owner", "Alex")).getItemMeta().displayName()));
+        assertThrows(IllegalArgumentException.class, () -> template.render("Steve"));
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of("owner", "Steve")));
+    }
+
+    @Test
+    void staticTemplatesCloneThePrototype() {
+        final ItemTemplate template = ItemTemplate.builder("nexo:coin_pouch")
+            .name(Component.text("Coin Pouch"))
+            .lore(Component.text("Right click to open"))
+            .placeholders("balance")
+            .build();
+        assertFalse(template.isDynamic());
+        assertEquals(1, edits.get());
+
+        final ItemStack first = template.render("unused");
+        final ItemStack second = template.render("unused");
+        assertNotSame(first, second);
+        assertEquals("Coin Pouch", plain(second.getItemMeta().displayName()));
+        assertEquals(List.of("Right click to open"), plain(second.getItemMeta().lore()));
+        // Renders only clone the prototype, which was decorated when the template was built
+        assertEquals(1, edits.get());
+    }
+
+    @Test
+    void dynamicLinesOnlyRenderTheirOwnPart() {
+        final ItemTemplate template = ItemTemplate.builder("nexo:coin_pouch")
+            .name(Component.text("Coin Pouch"))
+            .lore(Component.text("Balance: {balance}"))
+            .placeholders("balance")
+            .build();
+        assertTrue(template.isDynamic());
+
+        final ItemMeta meta = template.render("3").getItemMeta();
+        assertEquals("Coin Pouch", plain(meta.displayName()));
+        assertEquals(List.of("Balance: 3"), plain(meta.lore()));
+    }
+
+    @Test
+    void memoizesRendersPerValues() {
+        final ItemTemplate template = ItemTemplate.builder("nexo:coin_pouch")
+            .name(Component.text("Balance: {balance}"))
+            .placeholders("balance")
+            .cacheSize(1)
+            .build();
+        assertEquals(0, edits.get());
+
+        final ItemStack first = template.render("1");
+        first.setAmount(64);
+        assertEquals(1, template.render("1").getAmount());
+        assertEquals(1, edits.get());
+
+        // The cache holds a single render, so switching values renders again
+        template.render("2");
+        template.render("1");
+        assertEquals(3, edits.get());
+
+        template.invalidate();
+        template.render("1");
+        assertEquals(4, edits.get());
+    }
+
+    @Test
+    void resolvesItemIdOnlyWhenBuilt() {
+        final ItemTemplate[] template = new ItemTemplate[1];
+        Budgets.assertCallsAtMost(nexo, 2, () -> template[0] = ItemTemplate.builder("nexo:coin_pouch")
+            .name(Component.text("Balance: {balance}"))
+            .placeholders("balance")
+            .build());
+
+        Budgets.assertCallsAtMost(nexo, 0, () -> {
+            template[0].render("1");
+            template[0].render("2");
+        });
+        assertEquals("nexo:coin_pouch", template[0].getItemId());
+        assertThrows(IllegalArgumentException.class, () -> ItemTemplate.builder("nexo:missing").build());
+    }
+
+    /**
+     * An item stack holding its meta in memory, as item meta is created by the server.
+     */
+    private static final class MetaStack extends ItemStack {
+        private final AtomicInteger edits;
+        private ItemMeta meta = new FakeMeta().proxy();
+
+        private MetaStack(final AtomicInteger edits) {
+            super(Material.EMERALD, 1);
+            this.edits = edits;
+        }
+
+        @Override
+        public boolean hasItemMeta() {
+            return true;
+        }
+
+        @Override
+        public ItemMeta getItemMeta() {
+            return meta.clone();
+        }
+
+        @Override
+        public boolean setItemMeta(final @Nullable ItemMeta itemMeta) {
+            edits.incrementAndGet();
+            this.meta = Objects.requireNonNull(itemMeta).clone();
+            return true;
+        }
+
+        @Override
+        public boolean editMeta(final Consumer<? super ItemMeta> consumer) {
+            final ItemMeta itemMeta = getItemMeta();
+            consumer.accept(itemMeta);
+            return setItemMeta(itemMeta);
+        }
+
+        @Override
+        public MetaStack clone() {
+            final MetaStack copy = (MetaStack) super.clone();
+            copy.meta = meta.clone();
+            return copy;
+        }
+    }
+
+    /**
+     * An item meta only supporting the display name and lore.
+     */
+    private static final class FakeMeta implements InvocationHandler {
+        private @Nullable Component displayName;
+        private @Nullable List<Component> lore;
+
+        private ItemMeta proxy() {
+            return (ItemMeta) Proxy.newProxyInstance(ItemTemplateTest.class.getClassLoader(), new Class<?>[]{ItemMeta.class}, this);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(final Object proxy, final Method method, final Object @Nullable [] args) {
+            final boolean setter = args != null && args.length == 1;
+            return switch (method.getName()) {
+                case "displayName" -> {
+                    if (!setter)
+                        yield displayName;
+                    displayName = (Component) args[0];
+                    yield null;
+                }
+                case "lore" -> {
+                    if (!setter)
+                        yield lore;
+                    lore = args[0] == null ? null : List.copyOf((List<Component>) args[0]);
+                    yield null;
+                }
+                case "clone" -> {
+                    final FakeMeta copy = new FakeMeta();
+                    copy.displayName = displayName;
+                    copy.lore = lore;
+                    yield copy.proxy();
+                }
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == Objects.requireNonNull(args)[0];
+                default -> throw new UnsupportedOperationException("ItemMeta." + method.getName());
+            };
+        }
+    }
+}
\ No newline at end of file
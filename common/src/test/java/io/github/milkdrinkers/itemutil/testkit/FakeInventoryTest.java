@@ -0,0 +1,79 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.testkit;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FakeInventoryTest {
+    @Test
+    void worksWithoutServer() {
+        // Comparing item stacks like the server does reads their meta, which fails without an item factory
+        assertThrows(RuntimeException.class, () -> new ItemStack(Material.STONE).isSimilar(new ItemStack(Material.STONE)));
+
+        final FakeInventory fake = FakeInventory.of(new ItemStack(Material.STONE, 32), new ItemStack(Material.DIRT, 5), new ItemStack(Material.STONE, 16));
+        final Inventory inventory = fake.getInventory();
+
+        assertTrue(inventory.contains(new ItemStack(Material.STONE, 16)));
+        assertTrue(inventory.containsAtLeast(new ItemStack(Material.STONE), 48));
+        assertEquals(2, inventory.first(new ItemStack(Material.STONE, 16)));
+        assertEquals(Map.of(1, fake.peek(1)), inventory.all(new ItemStack(Material.DIRT, 5)));
+
+        assertTrue(inventory.removeItem(new ItemStack(Material.STONE, 40)).isEmpty());
+        assertNull(fake.peek(0));
+        assertEquals(8, fake.peek(2).getAmount());
+
+        final Map<Integer, ItemStack> leftover = inventory.addItem(new ItemStack(Material.STONE, 60));
+        assertTrue(leftover.isEmpty());
+        assertEquals(64, fake.peek(2).getAmount());
+        assertEquals(4, fake.peek(0).getAmount());
+
+        inventory.remove(new ItemStack(Material.DIRT, 5));
+        assertNull(fake.peek(1));
+    }
+
+    @Test
+    void countsCalls() {
+        final FakeInventory fake = FakeInventory.create(9);
+        fake.getInventory().getContents();
+        fake.getInventory().getItem(0);
+        fake.getInventory().getItem(1);
+
+        assertEquals(1, fake.getCalls("getContents"));
+        assertEquals(2, fake.getCalls("getItem"));
+        assertEquals(3, fake.getCalls());
+
+        fake.resetCalls();
+        assertEquals(0, fake.getCalls());
+    }
+
+    @Test
+    void rejectsUnsupportedMethods() {
+        assertThrows(UnsupportedOperationException.class, () -> FakeInventory.create(9).getInventory().getViewers());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.testkit;
+
+import io.github.milkdrinkers.itemutil.ItemProvider;
+import io.github.milkdrinkers.itemutil.ItemUtils;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FakeProvidersTest {
+    @BeforeEach
+    void setUp() {
+        FakeProviders.reset();
+    }
+
+    @Test
+    void installLoadsProvider() {
+        assertFalse(ItemProvider.NEXO.isLoaded());
+
+        final FakeItemIntegration nexo = FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+        assertTrue(ItemProvider.NEXO.isLoaded());
+        assertEquals("nexo:ruby", ItemUtils.parse(new ItemStack(Material.EMERALD)));
+        assertTrue(ItemUtils.exists("nexo:ruby"));
+        assertTrue(nexo.getCalls() > 0);
+    }
+
+    @Test
+    void unloadFallsBackToVanilla() {
+        FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+        FakeProviders.unload(ItemProvider.NEXO);
+
+        assertFalse(ItemProvider.NEXO.isLoaded());
+        assertEquals("minecraft:emerald", ItemUtils.parse(new ItemStack(Material.EMERALD)));
+        assertFalse(ItemUtils.exists("nexo:ruby"));
+    }
+
+    @Test
+    void vanillaIsAlwaysLoaded() {
+        FakeProviders.unload(ItemProvider.VANILLA);
+
+        assertTrue(ItemProvider.VANILLA.isLoaded());
+        assertEquals("minecraft:stone", ItemUtils.parse(new ItemStack(Material.STONE)));
+    }
+}
\ No newline at end of file
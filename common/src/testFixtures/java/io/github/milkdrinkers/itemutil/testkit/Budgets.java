@@ -0,0 +1,115 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.testkit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The {@link Budgets} class asserts the cost of an operation, so performance regressions
+ * like resolving the same item stack twice fail a test instead of a server.
+ *
+ * <pre>{@code
+ * FakeItemIntegration nexo = FakeProviders.install(ItemProvider.NEXO).register("ruby", Material.EMERALD);
+ * Budgets.assertCallsAtMost(nexo, 1, () -> ItemUtils.parse(new ItemStack(Material.EMERALD)));
+ * Budgets.assertAllocatesAtMost(1024, () -> InventoryUtils.contains(holder, matcher));
+ * }</pre>
+ *
+ * @implNote Failed assertions throw an {@link AssertionError}, so any test framework reports them.
+ */
+@SuppressWarnings("unused")
+public final class Budgets {
+    private Budgets() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Asserts the action calls the integration at most the amount of times.
+     *
+     * @param integration the fake integration
+     * @param maxCalls    the maximum amount of calls
+     * @param action      the action
+     */
+    public static void assertCallsAtMost(final @NotNull FakeItemIntegration integration, final int maxCalls, final @NotNull Runnable action) {
+        integration.resetCalls();
+        action.run();
+
+        final int calls = integration.getCalls();
+        if (calls > maxCalls)
+            throw new AssertionError("Expected at most %d provider calls, but was %d (parse id: %d, is valid: %d, parse stack: %d)".formatted(maxCalls, calls, integration.getParseIdCalls(), integration.getIsValidCalls(), integration.getParseStackCalls()));
+    }
+
+    /**
+     * Asserts the action calls the inventory method at most the amount of times.
+     *
+     * @param inventory  the fake inventory
+     * @param methodName the name of the inventory method, like {@code "getContents"}
+     * @param maxCalls   the maximum amount of calls
+     * @param action     the action
+     */
+    public static void assertCallsAtMost(final @NotNull FakeInventory inventory, final @NotNull String methodName, final int maxCalls, final @NotNull Runnable action) {
+        inventory.resetCalls();
+        action.run();
+
+        final int calls = inventory.getCalls(methodName);
+        if (calls > maxCalls)
+            throw new AssertionError("Expected at most %d calls to %s, but was %d".formatted(maxCalls, methodName, calls));
+    }
+
+    /**
+     * Asserts the action allocates at most the amount of bytes on the current thread.
+     *
+     * @param maxBytes the maximum amount of allocated bytes
+     * @param action   the action
+     * @apiNote The action is run once before measuring, so class loading and lazy initialization are not counted.
+     */
+    public static void assertAllocatesAtMost(final long maxBytes, final @NotNull Runnable action) {
+        action.run();
+
+        final long allocated = measureAllocations(action);
+        if (allocated > maxBytes)
+            throw new AssertionError("Expected at most %d allocated bytes, but was %d".formatted(maxBytes, allocated));
+    }
+
+    /**
+     * Measures the bytes allocated on the current thread while running the action.
+     *
+     * @param action the action
+     * @return the amount of allocated bytes
+     * @throws UnsupportedOperationException if the jvm does not support measuring thread allocations
+     */
+    public static long measureAllocations(final @NotNull Runnable action) {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean threadBean) || !threadBean.isThreadAllocatedMemorySupported())
+            throw new UnsupportedOperationException("Measuring thread allocations is not supported by this jvm");
+
+        if (!threadBean.isThreadAllocatedMemoryEnabled())
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final long threadId = Thread.currentThread().threadId();
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        action.run();
+        return threadBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
\ No newline at end of file
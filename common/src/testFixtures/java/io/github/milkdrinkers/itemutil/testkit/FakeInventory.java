@@ -0,0 +1,439 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.testkit;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link FakeInventory} is an in-memory {@link Inventory} that works without a running server,
+ * and counts every call made to it.
+ * <p>
+ * Only the methods used by this library are implemented, every other method throws an
+ * {@link UnsupportedOperationException}. Like the server, {@link Inventory#getContents()}
+ * returns a new array holding the live item stacks.
+ * <p>
+ * Without a server item stacks can not read their meta, so where the server compares item stacks
+ * with {@link ItemStack#isSimilar(ItemStack)} this inventory only compares their material, and where
+ * the server uses {@link ItemStack#equals(Object)} it compares their material and amount. Stacks hold
+ * at most 64 items.
+ *
+ * <pre>{@code
+ * FakeInventory inventory = FakeInventory.of(new ItemStack(Material.STONE, 32));
+ * InventoryUtils.countItems(inventory.getHolder(), Material.STONE);
+ * assertEquals(1, inventory.getCalls("getContents"));
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class FakeInventory implements InvocationHandler {
+    /**
+     * The size of a player inventory, 36 storage slots, 4 armor slots and the offhand slot.
+     */
+    public static final int PLAYER_SIZE = 41;
+    private static final int OFFHAND_SLOT = 40;
+    private static final int MAX_STACK_SIZE = 64;
+
+    private final ItemStack[] contents;
+    private final boolean player;
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final Inventory inventory;
+    private final FakeInventoryHolder holder;
+    private int heldItemSlot;
+
+    private FakeInventory(final int size, final boolean player) {
+        if (size < 0)
+            throw new IllegalArgumentException("Size cannot be negative");
+
+        this.contents = new ItemStack[size];
+        this.player = player;
+        this.inventory = (Inventory) Proxy.newProxyInstance(
+            FakeInventory.class.getClassLoader(),
+            new Class<?>[]{player ? PlayerInventory.class : Inventory.class},
+            this
+        );
+        this.holder = new FakeInventoryHolder(this);
+    }
+
+    /**
+     * Creates an empty inventory.
+     *
+     * @param size the amount of slots
+     * @return a fake inventory
+     */
+    public static @NotNull FakeInventory create(final int size) {
+        return new FakeInventory(size, false);
+    }
+
+    /**
+     * Creates an inventory with the item stacks in its first slots, its size rounded up to full rows of 9 slots.
+     *
+     * @param items the item stacks
+     * @return a fake inventory
+     */
+    public static @NotNull FakeInventory of(final @Nullable ItemStack @NotNull ... items) {
+        final FakeInventory fake = create(Math.max(9, (items.length + 8) / 9 * 9));
+        for (int i = 0; i < items.length; i++)
+            fake.contents[i] = normalize(items[i]);
+        return fake;
+    }
+
+    /**
+     * Creates an empty {@link PlayerInventory} with the player slot layout.
+     *
+     * @return a fake inventory
+     */
+    public static @NotNull FakeInventory player() {
+        return new FakeInventory(PLAYER_SIZE, true);
+    }
+
+    /**
+     * Gets the inventory backed by this fake.
+     *
+     * @return the inventory
+     */
+    public @NotNull Inventory getInventory() {
+        return inventory;
+    }
+
+    /**
+     * Gets the holder of this inventory.
+     *
+     * @return the inventory holder
+     */
+    public @NotNull FakeInventoryHolder getHolder() {
+        return holder;
+    }
+
+    /**
+     * Gets the item stack in the slot, without counting a call.
+     *
+     * @param slot the slot
+     * @return the item stack or null
+     */
+    public @Nullable ItemStack peek(final int slot) {
+        return contents[slot];
+    }
+
+    /**
+     * Sets the item stack in the slot, without counting a call.
+     *
+     * @param slot the slot
+     * @param item the item stack or null
+     * @return this fake inventory
+     */
+    public @NotNull FakeInventory put(final int slot, final @Nullable ItemStack item) {
+        contents[slot] = normalize(item);
+        return this;
+    }
+
+    /**
+     * Gets the amount of calls made to the inventory method since the last reset.
+     *
+     * @param methodName the name of the {@link Inventory} method
+     * @return the amount of calls
+     */
+    public int getCalls(final @NotNull String methodName) {
+        final @Nullable AtomicInteger counter = calls.get(methodName);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * Gets the amount of calls made to any inventory method since the last reset.
+     *
+     * @return the amount of calls
+     */
+    public int getCalls() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * Resets all call counts.
+     */
+    public void resetCalls() {
+        calls.clear();
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object @Nullable [] args) {
+        final Object[] arguments = args == null ? new Object[0] : args;
+        switch (method.getName()) {
+            case "equals":
+                if (arguments.length == 1)
+                    return proxy == arguments[0];
+                break;
+            case "hashCode":
+                if (arguments.length == 0)
+                    return System.identityHashCode(proxy);
+                break;
+            case "toString":
+                if (arguments.length == 0)
+                    return "FakeInventory[size=%d]".formatted(contents.length);
+                break;
+            default:
+                break;
+        }
+
+        calls.computeIfAbsent(method.getName(), name -> new AtomicInteger()).incrementAndGet();
+        final @Nullable Object result = dispatch(method, arguments);
+        if (result == Unsupported.INSTANCE)
+            throw new UnsupportedOperationException("FakeInventory does not support " + method);
+
+        return result;
+    }
+
+    private @Nullable Object dispatch(final Method method, final Object[] args) {
+        switch (method.getName()) {
+            case "getSize":
+                return contents.length;
+            case "getMaxStackSize":
+                return MAX_STACK_SIZE;
+            case "getHolder":
+                return holder;
+            case "getContents":
+                return contents.clone();
+            case "getStorageContents":
+                return player ? Arrays.copyOfRange(contents, 0, 36) : contents.clone();
+            case "getArmorContents":
+                return player ? Arrays.copyOfRange(contents, 36, 40) : Unsupported.INSTANCE;
+            case "getExtraContents":
+                return player ? Arrays.copyOfRange(contents, OFFHAND_SLOT, PLAYER_SIZE) : Unsupported.INSTANCE;
+            case "setContents":
+                return setContents((ItemStack[]) args[0]);
+            case "getItem":
+                return args.length == 1 && args[0] instanceof Integer slot ? contents[slot] : Unsupported.INSTANCE;
+            case "setItem":
+                if (args.length != 2 || !(args[0] instanceof Integer slot))
+                    return Unsupported.INSTANCE;
+
+                contents[slot] = normalize((ItemStack) args[1]);
+                return null;
+            case "getHeldItemSlot":
+                return player ? heldItemSlot : Unsupported.INSTANCE;
+            case "setHeldItemSlot":
+                if (!player)
+                    return Unsupported.INSTANCE;
+
+                heldItemSlot = (Integer) args[0];
+                return null;
+            case "getItemInMainHand":
+                return player ? orAir(contents[heldItemSlot]) : Unsupported.INSTANCE;
+            case "getItemInOffHand":
+                return player ? orAir(contents[OFFHAND_SLOT]) : Unsupported.INSTANCE;
+            case "clear":
+                if (args.length == 0) {
+                    Arrays.fill(contents, null);
+                } else {
+                    contents[(Integer) args[0]] = null;
+                }
+                return null;
+            case "firstEmpty":
+                return firstEmpty();
+            case "isEmpty":
+                return Arrays.stream(contents).allMatch(Objects::isNull);
+            case "first":
+                return first(args[0]);
+            case "contains":
+                return contains(args[0], args.length == 2 ? (Integer) args[1] : 1);
+            case "containsAtLeast":
+                return amountOf((ItemStack) args[0]) >= (Integer) args[1];
+            case "all":
+                return all(args[0]);
+            case "remove":
+                return remove(args[0]);
+            case "addItem":
+                return addItem((ItemStack[]) args[0]);
+            case "removeItem":
+                return removeItem((ItemStack[]) args[0]);
+            case "iterator":
+                return args.length == 0 ? Arrays.asList(contents).listIterator() : Arrays.asList(contents).listIterator((Integer) args[0]);
+            default:
+                return Unsupported.INSTANCE;
+        }
+    }
+
+    private @Nullable Object setContents(final @Nullable ItemStack @NotNull [] items) {
+        if (items.length > contents.length)
+            throw new IllegalArgumentException("Invalid inventory size (%d), expected %d or less".formatted(items.length, contents.length));
+
+        Arrays.fill(contents, null);
+        for (int i = 0; i < items.length; i++)
+            contents[i] = normalize(items[i]);
+        return null;
+    }
+
+    private int firstEmpty() {
+        for (int i = 0; i < contents.length; i++) {
+            if (contents[i] == null)
+                return i;
+        }
+        return -1;
+    }
+
+    private int first(final Object key) {
+        for (int i = 0; i < contents.length; i++) {
+            if (matches(contents[i], key))
+                return i;
+        }
+        return -1;
+    }
+
+    private boolean contains(final Object key, final int amount) {
+        if (amount <= 0)
+            return true;
+
+        // Like the server, contains(ItemStack, int) counts matching stacks while contains(Material, int) counts items
+        int found = 0;
+        for (final ItemStack item : contents) {
+            if (!matches(item, key))
+                continue;
+
+            found += key instanceof Material ? item.getAmount() : 1;
+            if (found >= amount)
+                return true;
+        }
+        return false;
+    }
+
+    private int amountOf(final ItemStack key) {
+        int found = 0;
+        for (final ItemStack item : contents) {
+            if (item != null && isSimilar(item, key))
+                found += item.getAmount();
+        }
+        return found;
+    }
+
+    private HashMap<Integer, ItemStack> all(final Object key) {
+        final HashMap<Integer, ItemStack> slots = new HashMap<>();
+        for (int i = 0; i < contents.length; i++) {
+            if (matches(contents[i], key))
+                slots.put(i, contents[i]);
+        }
+        return slots;
+    }
+
+    private @Nullable Object remove(final Object key) {
+        for (int i = 0; i < contents.length; i++) {
+            if (matches(contents[i], key))
+                contents[i] = null;
+        }
+        return null;
+    }
+
+    private HashMap<Integer, ItemStack> addItem(final ItemStack[] items) {
+        final HashMap<Integer, ItemStack> leftover = new HashMap<>();
+        for (int i = 0; i < items.length; i++) {
+            final ItemStack item = items[i];
+            int remaining = item.getAmount();
+
+            // Top up similar stacks first, then fill empty slots
+            for (int slot = 0; slot < contents.length && remaining > 0; slot++) {
+                final ItemStack current = contents[slot];
+                if (current == null || !isSimilar(current, item))
+                    continue;
+
+                final int moved = Math.min(remaining, MAX_STACK_SIZE - current.getAmount());
+                if (moved <= 0)
+                    continue;
+
+                current.setAmount(current.getAmount() + moved);
+                remaining -= moved;
+            }
+
+            for (int slot = 0; slot < contents.length && remaining > 0; slot++) {
+                if (contents[slot] != null)
+                    continue;
+
+                final int moved = Math.min(remaining, MAX_STACK_SIZE);
+                contents[slot] = item.asQuantity(moved);
+                remaining -= moved;
+            }
+
+            if (remaining > 0)
+                leftover.put(i, item.asQuantity(remaining));
+        }
+        return leftover;
+    }
+
+    private HashMap<Integer, ItemStack> removeItem(final ItemStack[] items) {
+        final HashMap<Integer, ItemStack> leftover = new HashMap<>();
+        for (int i = 0; i < items.length; i++) {
+            final ItemStack item = items[i];
+            int remaining = item.getAmount();
+
+            for (int slot = 0; slot < contents.length && remaining > 0; slot++) {
+                final ItemStack current = contents[slot];
+                if (current == null || !isSimilar(current, item))
+                    continue;
+
+                final int removed = Math.min(remaining, current.getAmount());
+                remaining -= removed;
+                if (removed == current.getAmount()) {
+                    contents[slot] = null;
+                } else {
+                    current.setAmount(current.getAmount() - removed);
+                }
+            }
+
+            if (remaining > 0)
+                leftover.put(i, item.asQuantity(remaining));
+        }
+        return leftover;
+    }
+
+    private static boolean matches(final @Nullable ItemStack item, final Object key) {
+        if (item == null)
+            return false;
+
+        if (key instanceof Material material)
+            return item.getType() == material;
+
+        return key instanceof ItemStack stack && isSimilar(item, stack) && item.getAmount() == stack.getAmount();
+    }
+
+    private static boolean isSimilar(final @NotNull ItemStack item, final @NotNull ItemStack other) {
+        return item.getType() == other.getType();
+    }
+
+    private static @Nullable ItemStack normalize(final @Nullable ItemStack item) {
+        return item == null || item.getType() == Material.AIR ? null : item;
+    }
+
+    private static @NotNull ItemStack orAir(final @Nullable ItemStack item) {
+        return item == null ? new ItemStack(Material.AIR) : item;
+    }
+
+    private enum Unsupported {
+        INSTANCE
+    }
+}
\ No newline at end of file
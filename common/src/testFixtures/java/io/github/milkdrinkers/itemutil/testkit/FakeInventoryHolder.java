@@ -0,0 +1,54 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.testkit;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link InventoryHolder} of a {@link FakeInventory}.
+ *
+ * @see FakeInventory#getHolder()
+ */
+@SuppressWarnings("unused")
+public final class FakeInventoryHolder implements InventoryHolder {
+    private final FakeInventory fake;
+
+    FakeInventoryHolder(final @NotNull FakeInventory fake) {
+        this.fake = fake;
+    }
+
+    /**
+     * Gets the fake inventory of this holder.
+     *
+     * @return the fake inventory
+     */
+    public @NotNull FakeInventory getFake() {
+        return fake;
+    }
+
+    @Override
+    public @NotNull Inventory getInventory() {
+        return fake.getInventory();
+    }
+}
\ No newline at end of file
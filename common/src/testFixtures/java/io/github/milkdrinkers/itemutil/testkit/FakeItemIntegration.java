@@ -0,0 +1,205 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.testkit;
+
+import io.github.milkdrinkers.itemutil.ItemProvider;
+import io.github.milkdrinkers.itemutil.integration.ItemIntegration;
+import org.bukkit.Material;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A {@link FakeItemIntegration} is a scriptable {@link ItemIntegration} that counts every call made to it,
+ * used in place of a plugin api through {@link FakeProviders#install(ItemProvider)}.
+ * <p>
+ * Without a server item stacks carry no plugin data, so each registered item decides which
+ * item stacks belong to it using a predicate, by default any item stack of its material.
+ *
+ * <pre>{@code
+ * FakeItemIntegration nexo = FakeProviders.install(ItemProvider.NEXO)
+ *     .register("ruby", Material.EMERALD);
+ * InventoryUtils.countItems(holder, "nexo:ruby");
+ * assertEquals(9, nexo.getParseStackCalls());
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class FakeItemIntegration implements ItemIntegration {
+    private final String namespace;
+    private volatile Map<String, FakeItem> items = Map.of();
+    private final AtomicInteger parseIdCalls = new AtomicInteger();
+    private final AtomicInteger isValidCalls = new AtomicInteger();
+    private final AtomicInteger parseStackCalls = new AtomicInteger();
+    private final List<Runnable> itemsLoadedActions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates an integration without items.
+     *
+     * @param namespace the namespace of the item ids returned by {@link #parseItem(ItemStack)}
+     */
+    public FakeItemIntegration(final @NotNull String namespace) {
+        this.namespace = namespace;
+    }
+
+    /**
+     * Registers an item owning every item stack of the material.
+     *
+     * @param itemId   the item id, without namespace
+     * @param material the material of the item
+     * @return this integration
+     */
+    public @NotNull FakeItemIntegration register(final @NotNull String itemId, final @NotNull Material material) {
+        return register(itemId, () -> new ItemStack(material, 1), itemStack -> itemStack.getType() == material);
+    }
+
+    /**
+     * Registers an item.
+     *
+     * @param itemId  the item id, without namespace
+     * @param factory creates a new item stack of the item
+     * @param owns    whether an item stack is this item
+     * @return this integration
+     */
+    public synchronized @NotNull FakeItemIntegration register(final @NotNull String itemId, final @NotNull Supplier<ItemStack> factory, final @NotNull Predicate<ItemStack> owns) {
+        final Map<String, FakeItem> copy = new LinkedHashMap<>(items);
+        copy.put(itemId, new FakeItem(factory, owns));
+        items = Collections.unmodifiableMap(copy);
+        return this;
+    }
+
+    /**
+     * Removes a registered item, like a plugin reload removing it from its registry.
+     *
+     * @param itemId the item id, without namespace
+     * @return this integration
+     */
+    public synchronized @NotNull FakeItemIntegration unregister(final @NotNull String itemId) {
+        final Map<String, FakeItem> copy = new LinkedHashMap<>(items);
+        copy.remove(itemId);
+        items = Collections.unmodifiableMap(copy);
+        return this;
+    }
+
+    @Override
+    public @Nullable ItemStack parseItem(final @NotNull String itemId) {
+        parseIdCalls.incrementAndGet();
+        final @Nullable FakeItem item = items.get(itemId);
+        return item == null ? null : item.factory().get();
+    }
+
+    @Override
+    public boolean isValidItem(final @NotNull String itemId) {
+        isValidCalls.incrementAndGet();
+        return items.containsKey(itemId);
+    }
+
+    @Override
+    public @Nullable String parseItem(final @NotNull ItemStack itemStack) {
+        parseStackCalls.incrementAndGet();
+        for (final Map.Entry<String, FakeItem> entry : items.entrySet()) {
+            if (entry.getValue().owns().test(itemStack))
+                return "%s:%s".formatted(namespace, entry.getKey());
+        }
+        return null;
+    }
+
+    @Override
+    public @NotNull Collection<String> getItemIds() {
+        return List.copyOf(items.keySet());
+    }
+
+    @Override
+    public boolean onItemsLoaded(final @NotNull Plugin plugin, final @NotNull Listener listener, final @NotNull Runnable action) {
+        itemsLoadedActions.add(action);
+        return true;
+    }
+
+    /**
+     * Runs every action registered through {@link #onItemsLoaded(Plugin, Listener, Runnable)}, like the plugin calling its items loaded event.
+     *
+     * @return this integration
+     */
+    public @NotNull FakeItemIntegration loadItems() {
+        itemsLoadedActions.forEach(Runnable::run);
+        return this;
+    }
+
+    /**
+     * Gets the amount of {@link #parseItem(String)} calls since the last reset.
+     *
+     * @return the amount of calls
+     */
+    public int getParseIdCalls() {
+        return parseIdCalls.get();
+    }
+
+    /**
+     * Gets the amount of {@link #isValidItem(String)} calls since the last reset.
+     *
+     * @return the amount of calls
+     */
+    public int getIsValidCalls() {
+        return isValidCalls.get();
+    }
+
+    /**
+     * Gets the amount of {@link #parseItem(ItemStack)} calls since the last reset.
+     *
+     * @return the amount of calls
+     */
+    public int getParseStackCalls() {
+        return parseStackCalls.get();
+    }
+
+    /**
+     * Gets the amount of calls to any method since the last reset.
+     *
+     * @return the amount of calls
+     */
+    public int getCalls() {
+        return getParseIdCalls() + getIsValidCalls() + getParseStackCalls();
+    }
+
+    /**
+     * Resets all call counts.
+     */
+    public void resetCalls() {
+        parseIdCalls.set(0);
+        isValidCalls.set(0);
+        parseStackCalls.set(0);
+    }
+
+    private record FakeItem(Supplier<ItemStack> factory, Predicate<ItemStack> owns) {
+    }
+}
\ No newline at end of file
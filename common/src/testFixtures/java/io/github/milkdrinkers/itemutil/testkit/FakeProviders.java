@@ -0,0 +1,92 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.testkit;
+
+import io.github.milkdrinkers.itemutil.ItemProvider;
+import io.github.milkdrinkers.itemutil.ProviderAccess;
+import io.github.milkdrinkers.itemutil.integration.ItemIntegration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link FakeProviders} class plugs fake integrations into the {@link ItemProvider}'s,
+ * so items resolve without a running server or any item plugin.
+ * <p>
+ * A provider is loaded by enabling its plugin on the {@link FakeServer}, so the providers
+ * ask the plugin manager exactly like they do on a server.
+ *
+ * <pre>{@code
+ * @BeforeEach
+ * void setUp() {
+ *     FakeProviders.reset();
+ * }
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class FakeProviders {
+    private FakeProviders() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Unloads every custom item provider and restores the default integration of every provider.
+     */
+    public static void reset() {
+        for (final ItemProvider provider : ItemProvider.values())
+            unload(provider);
+    }
+
+    /**
+     * Loads the provider with a new fake integration, using the first namespace of the provider.
+     *
+     * @param provider the item provider
+     * @return the fake integration
+     */
+    public static @NotNull FakeItemIntegration install(final @NotNull ItemProvider provider) {
+        final FakeItemIntegration integration = new FakeItemIntegration(provider.getNamespaces().get(0));
+        install(provider, integration);
+        return integration;
+    }
+
+    /**
+     * Loads the provider with the integration.
+     *
+     * @param provider    the item provider
+     * @param integration the integration
+     */
+    public static void install(final @NotNull ItemProvider provider, final @NotNull ItemIntegration integration) {
+        ProviderAccess.setIntegration(provider, integration);
+        if (provider != ItemProvider.VANILLA)
+            FakeServer.get().setPluginEnabled(provider.getPluginName(), true);
+    }
+
+    /**
+     * Unloads the provider, like its plugin being disabled, and restores its default integration.
+     *
+     * @param provider the item provider
+     * @apiNote {@link ItemProvider#VANILLA} is always loaded, so it only gets its default integration back.
+     */
+    public static void unload(final @NotNull ItemProvider provider) {
+        if (provider != ItemProvider.VANILLA)
+            FakeServer.get().setPluginEnabled(provider.getPluginName(), false);
+        ProviderAccess.setIntegration(provider, null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,301 @@
+/*
+ * MIT No Attribution
+ *
+ * Copyright 2025 darksaid98
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.milkdrinkers.itemutil.testkit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * A {@link FakeServer} is a minimal {@link Server} installed through {@link Bukkit#setServer(Server)},
+ * so code asking the plugin manager or scheduler runs in tests.
+ * <p>
+ * The plugin manager only answers whether a plugin is enabled and accepts, but never calls, event
+ * listeners. The scheduler only runs
+ * synchronous tasks when the test calls {@link #tick()}. Every other server method throws an
+ * {@link UnsupportedOperationException}, including {@link Bukkit#getItemFactory()}, so item stacks
+ * must not read their meta.
+ *
+ * <pre>{@code
+ * FakeServer server = FakeServer.get();
+ * server.setPluginEnabled("Nexo", true);
+ * sweep.start();
+ * server.tick(5);
+ * }</pre>
+ *
+ * @apiNote The server can not be uninstalled, call {@link #reset()} between tests instead.
+ */
+@SuppressWarnings("unused")
+public final class FakeServer {
+    private static @Nullable FakeServer instance;
+
+    private final Server server;
+    private final PluginManager pluginManager;
+    private final BukkitScheduler scheduler;
+    private final Logger logger = Logger.getLogger("FakeServer");
+    private final Set<String> enabledPlugins = new HashSet<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private long currentTick;
+    private int nextTaskId = 1;
+
+    private FakeServer() {
+        this.server = proxy(Server.class, this::invokeServer);
+        this.pluginManager = proxy(PluginManager.class, this::invokePluginManager);
+        this.scheduler = proxy(BukkitScheduler.class, this::invokeScheduler);
+    }
+
+    /**
+     * Gets the fake server, installing it on first use.
+     *
+     * @return the fake server
+     * @throws IllegalStateException if a different server was already installed
+     */
+    public static synchronized @NotNull FakeServer get() {
+        if (instance == null) {
+            if (Bukkit.getServer() != null)
+                throw new IllegalStateException("A different server is already installed");
+
+            final FakeServer fake = new FakeServer();
+            Bukkit.setServer(fake.server);
+            instance = fake;
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the server backed by this fake.
+     *
+     * @return the server
+     */
+    public @NotNull Server getServer() {
+        return server;
+    }
+
+    /**
+     * Sets whether the plugin is reported as enabled by the plugin manager.
+     *
+     * @param pluginName the plugin name
+     * @param enabled    whether the plugin is enabled
+     */
+    public synchronized void setPluginEnabled(final @NotNull String pluginName, final boolean enabled) {
+        if (enabled) {
+            enabledPlugins.add(pluginName);
+        } else {
+            enabledPlugins.remove(pluginName);
+        }
+    }
+
+    /**
+     * Creates a plugin that can own scheduled tasks.
+     *
+     * @param name the plugin name
+     * @return a plugin
+     */
+    public @NotNull Plugin createPlugin(final @NotNull String name) {
+        final Logger pluginLogger = Logger.getLogger(name);
+        return proxy(Plugin.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getLogger" -> pluginLogger;
+            case "getServer" -> server;
+            case "isEnabled" -> true;
+            default -> unsupported(method);
+        });
+    }
+
+    /**
+     * Runs every task due in the next tick.
+     */
+    public void tick() {
+        final List<Task> due;
+        synchronized (this) {
+            currentTick++;
+            due = tasks.stream().filter(task -> task.nextRun <= currentTick).toList();
+        }
+
+        for (final Task task : due) {
+            if (task.cancelled)
+                continue;
+
+            task.action.run();
+            synchronized (this) {
+                if (task.period <= 0) {
+                    task.cancelled = true;
+                } else {
+                    task.nextRun = currentTick + task.period;
+                }
+            }
+        }
+
+        synchronized (this) {
+            tasks.removeIf(task -> task.cancelled);
+        }
+    }
+
+    /**
+     * Runs the amount of ticks.
+     *
+     * @param ticks the amount of ticks
+     */
+    public void tick(final int ticks) {
+        for (int i = 0; i < ticks; i++)
+            tick();
+    }
+
+    /**
+     * Gets the amount of scheduled tasks that have not been cancelled.
+     *
+     * @return the amount of tasks
+     */
+    public synchronized int getPendingTasks() {
+        return (int) tasks.stream().filter(task -> !task.cancelled).count();
+    }
+
+    /**
+     * Disables every plugin and cancels every scheduled task.
+     */
+    public synchronized void reset() {
+        enabledPlugins.clear();
+        tasks.forEach(task -> task.cancelled = true);
+        tasks.clear();
+    }
+
+    private @Nullable Object invokeServer(final Object proxy, final Method method, final Object @Nullable [] args) {
+        return switch (method.getName()) {
+            case "getPluginManager" -> pluginManager;
+            case "getScheduler" -> scheduler;
+            case "getLogger" -> logger;
+            case "getName" -> "FakeServer";
+            case "getVersion", "getBukkitVersion", "getMinecraftVersion" -> "test";
+            case "isPrimaryThread" -> true;
+            case "getOnlinePlayers" -> List.of();
+            default -> unsupported(method);
+        };
+    }
+
+    private @Nullable Object invokePluginManager(final Object proxy, final Method method, final Object @Nullable [] args) {
+        if (method.getName().equals("isPluginEnabled") && args != null && args[0] instanceof String name) {
+            synchronized (this) {
+                return enabledPlugins.contains(name);
+            }
+        }
+
+        // Events are never called, tests trigger the behaviour behind them directly
+        if (method.getName().equals("registerEvents") || method.getName().equals("registerEvent"))
+            return null;
+
+        return unsupported(method);
+    }
+
+    private @Nullable Object invokeScheduler(final Object proxy, final Method method, final Object @Nullable [] args) {
+        final Object[] arguments = args == null ? new Object[0] : args;
+        return switch (method.getName()) {
+            case "runTask" -> schedule(method, arguments, 0L, 0L);
+            case "runTaskLater" -> schedule(method, arguments, (Long) arguments[2], 0L);
+            case "runTaskTimer" -> schedule(method, arguments, (Long) arguments[2], (Long) arguments[3]);
+            case "cancelTasks" -> {
+                synchronized (this) {
+                    tasks.stream().filter(task -> task.owner == arguments[0]).forEach(task -> task.cancelled = true);
+                }
+                yield null;
+            }
+            default -> unsupported(method);
+        };
+    }
+
+    private synchronized @Nullable Object schedule(final Method method, final Object[] args, final long delay, final long period) {
+        if (!(args[0] instanceof Plugin owner) || !(args[1] instanceof Runnable action) || method.getReturnType() != BukkitTask.class)
+            return unsupported(method);
+
+        // Like the server, a delay below one tick runs the task on the next tick
+        final Task task = new Task(nextTaskId++, owner, action, currentTick + Math.max(1L, delay), period);
+        tasks.add(task);
+        return proxy(BukkitTask.class, (proxy, taskMethod, taskArgs) -> switch (taskMethod.getName()) {
+            case "getTaskId" -> task.id;
+            case "getOwner" -> task.owner;
+            case "isSync" -> true;
+            case "isCancelled" -> task.cancelled;
+            case "cancel" -> {
+                task.cancelled = true;
+                yield null;
+            }
+            default -> unsupported(taskMethod);
+        });
+    }
+
+    private static <T> T proxy(final Class<T> type, final Handler handler) {
+        return type.cast(Proxy.newProxyInstance(FakeServer.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    if (method.getParameterCount() == 1)
+                        return proxy == args[0];
+                    break;
+                case "hashCode":
+                    if (method.getParameterCount() == 0)
+                        return System.identityHashCode(proxy);
+                    break;
+                case "toString":
+                    if (method.getParameterCount() == 0)
+                        return "Fake" + type.getSimpleName();
+                    break;
+                default:
+                    break;
+            }
+            return handler.invoke(proxy, method, args);
+        }));
+    }
+
+    private static Object unsupported(final Method method) {
+        throw new UnsupportedOperationException("FakeServer does not support " + method);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        @Nullable Object invoke(Object proxy, Method method, Object @Nullable [] args);
+    }
+
+    private static final class Task {
+        private final int id;
+        private final Plugin owner;
+        private final Runnable action;
+        private final long period;
+        private long nextRun;
+        private volatile boolean cancelled;
+
+        private Task(final int id, final Plugin owner, final Runnable action, final long nextRun, final long period) {
+            this.id = id;
+            this.owner = owner;
+            this.action = action;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+    }
+}
\ No newline at end of file